@@ -0,0 +1,41 @@
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+// Recursive backtracker (DFS acak) dengan stack int[]: lorong panjang, sedikit cabang
+public class BacktrackerStrategy implements GenerationStrategy {
+    @Override
+    public String getName() { return "Backtracker"; }
+
+    @Override
+    public void carve(Maze maze, SplittableRandom random) {
+        int width = maze.getWidth(), height = maze.getHeight();
+        BitSet visited = new BitSet(maze.size());
+        int[] stack = new int[maze.size()];
+        int top = 0;
+        visited.set(0);
+        stack[top++] = 0;
+
+        while (top > 0) {
+            int current = stack[top - 1];
+            int x = current % width, y = current / width;
+
+            // Pilih tetangga belum dikunjungi secara acak (reservoir), tanpa list sementara
+            int dir = -1, seen = 0;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + Maze.DX[d], ny = y + Maze.DY[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                if (visited.get(ny * width + nx)) continue;
+                if (random.nextInt(++seen) == 0) dir = d;
+            }
+
+            if (dir >= 0) {
+                int next = maze.neighbor(current, dir);
+                visited.set(next);
+                maze.removeWall(current, dir);
+                stack[top++] = next;
+            } else {
+                top--;
+            }
+        }
+    }
+}
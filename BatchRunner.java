@@ -0,0 +1,182 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Entry point headless untuk perbandingan massal (server build malam hari). Tidak menyentuh
+// AWT/Swing sama sekali: labirin dibuat, diberi medan, lalu diselesaikan tiap algoritma, paralel
+// satu maze per task. Baris hasil ditulis langsung (streaming) sebagai CSV atau JSON Lines.
+//
+// java -Djava.awt.headless=true BatchRunner --sizes 100x100,500x500 --count 10 --seed 1
+//      --algos BFS,A*,ALT --format jsonl --out hasil.jsonl [--threads n] [--generator Kruskal]
+//      [--terrain Noise|Acak|Tidak] [--jfr rekaman.jfr]
+public class BatchRunner {
+    private static final String[] COLUMNS = {"width", "height", "seed", "generator", "algorithm", "steps", "cost", "expanded",
+            "generated", "frontierPeak", "pushes", "pops", "decreaseKeys", "allocatedBytes", "millis", "buildAllocatedBytes",
+            "buildMillis"};
+
+    private final List<int[]> sizes = new ArrayList<>();
+    private int count = 1;
+    private long seed = 1;
+    private List<String> algorithms = Arrays.asList(MazeSolver.ALGORITHMS);
+    private boolean jsonLines = false;
+    private String out = null;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private GenerationStrategy strategy = MazeGenerator.STRATEGIES[0];
+    private TerrainGenerator terrain = new NoiseTerrain();
+    private String jfr = null;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        BatchRunner runner = new BatchRunner();
+        try {
+            runner.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Pemakaian: BatchRunner --sizes LxT[,LxT...] [--count n] [--seed s] [--algos a,b] "
+                    + "[--format csv|jsonl] [--out file] [--threads n] [--generator nama] [--terrain Noise|Acak|Tidak] [--jfr file]");
+            System.exit(2);
+        }
+        runner.run();
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String key = args[i];
+            if (i + 1 >= args.length) throw new IllegalArgumentException("Nilai untuk " + key + " tidak ada");
+            String value = args[++i];
+            switch (key) {
+                case "--sizes":
+                    for (String s : value.split(",")) {
+                        String[] wh = s.toLowerCase().split("x");
+                        int w = Integer.parseInt(wh[0]);
+                        sizes.add(new int[]{w, wh.length > 1 ? Integer.parseInt(wh[1]) : w});
+                    }
+                    break;
+                case "--count": count = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--algos":
+                    algorithms = Arrays.asList(value.split(","));
+                    for (String a : algorithms) {
+                        if (!Arrays.asList(MazeSolver.ALGORITHMS).contains(a)) throw new IllegalArgumentException("Algoritma tidak dikenal: " + a);
+                    }
+                    break;
+                case "--format":
+                    if (!value.equals("csv") && !value.equals("jsonl")) throw new IllegalArgumentException("Format harus csv atau jsonl");
+                    jsonLines = value.equals("jsonl");
+                    break;
+                case "--out": out = value; break;
+                case "--jfr": jfr = value; break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--generator": strategy = MazeGenerator.strategyByName(value); break;
+                case "--terrain":
+                    if (value.equalsIgnoreCase("Tidak")) terrain = null;
+                    else if (value.equalsIgnoreCase("Acak")) terrain = new WhiteNoiseTerrain();
+                    else if (value.equalsIgnoreCase("Noise")) terrain = new NoiseTerrain();
+                    else throw new IllegalArgumentException("Medan tidak dikenal: " + value);
+                    break;
+                default: throw new IllegalArgumentException("Opsi tidak dikenal: " + key);
+            }
+        }
+        if (sizes.isEmpty()) throw new IllegalArgumentException("--sizes wajib diisi");
+    }
+
+    private void run() throws Exception {
+        if (jfr != null) MazeEvents.recordUntilExit(Paths.get(jfr));
+        Writer writer = out == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8);
+        if (!jsonLines) writer.write(String.join(",", COLUMNS) + "\n");
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tasks = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int[] size : sizes) {
+            for (int k = 0; k < count; k++) {
+                // Seed tiap maze diturunkan dari seed batch, jadi satu baris hasil bisa diulang sendiri
+                long mazeSeed = MazeGenerator.stream(seed, k).nextLong();
+                tasks.add(pool.submit(() -> {
+                    runOne(size[0], size[1], mazeSeed, writer);
+                    return null;
+                }));
+            }
+        }
+        try {
+            for (Future<?> task : tasks) task.get();
+        } finally {
+            pool.shutdown();
+            writer.flush();
+            if (out != null) writer.close();
+        }
+        System.err.printf("%d labirin x %d algoritma selesai dalam %.2f s%n", tasks.size(), algorithms.size(),
+                (System.nanoTime() - start) / 1e9);
+    }
+
+    private void runOne(int width, int height, long mazeSeed, Writer writer) throws IOException {
+        Maze maze = new MazeGenerator(width, height, strategy, mazeSeed).generateMaze();
+        if (terrain != null) maze.applyTerrain(terrain, mazeSeed);
+        MazeSolver solver = new MazeSolver(maze);
+        // Satu workspace per worker untuk semua maze yang dikerjakannya; hanya diganti kalau
+        // ukuran maze berubah jauh, jadi --count besar tidak menumpuk context maze lama
+        SearchContext ctx = SearchContext.forCurrentThread(maze.size());
+        Cell start = maze.cell(0, 0), end = maze.cell(width - 1, height - 1);
+
+        StringBuilder rows = new StringBuilder();
+        for (String algo : algorithms) {
+            // Praproses ALT/HPA* dibangun sebelum query dan dilaporkan di kolom build* sendiri;
+            // dipakai ulang oleh query berikutnya pada maze yang sama
+            long allocBefore = SearchStats.threadAllocatedBytes();
+            long bt = System.nanoTime();
+            solver.prepare(algo);
+            double buildMillis = (System.nanoTime() - bt) / 1_000_000.0;
+            long allocAfter = SearchStats.threadAllocatedBytes();
+            long buildBytes = allocBefore >= 0 && allocAfter >= 0 ? allocAfter - allocBefore : -1;
+
+            long st = System.nanoTime();
+            SearchResult result = solver.search(algo, start, end, ctx);
+            double millis = (System.nanoTime() - st) / 1_000_000.0;
+            List<Cell> path = result.path;
+            SearchStats stats = result.stats;
+            int cost = path.stream().mapToInt(Cell::getWeight).sum();
+            Object[] values = {width, height, mazeSeed, strategy.getName(), algo, path.size(), cost, stats.expanded,
+                    stats.generated, stats.frontierPeak, stats.pushes, stats.pops, stats.decreaseKeys, stats.allocatedBytes,
+                    String.format(Locale.ROOT, "%.3f", millis), buildBytes, String.format(Locale.ROOT, "%.3f", buildMillis)};
+            appendRow(rows, values);
+        }
+        // Satu maze = satu blok tulis, jadi baris dari thread berbeda tidak bercampur
+        synchronized (writer) {
+            writer.write(rows.toString());
+            writer.flush();
+        }
+    }
+
+    private void appendRow(StringBuilder sb, Object[] values) {
+        if (jsonLines) {
+            sb.append('{');
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append('"').append(COLUMNS[i]).append("\":");
+                boolean quoted = values[i] instanceof String && !COLUMNS[i].equals("millis") && !COLUMNS[i].equals("buildMillis");
+                if (quoted) sb.append('"').append(values[i]).append('"');
+                else sb.append(values[i]);
+            }
+            sb.append("}\n");
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(values[i]);
+            }
+            sb.append('\n');
+        }
+    }
+}
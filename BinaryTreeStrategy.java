@@ -0,0 +1,23 @@
+import java.util.SplittableRandom;
+
+// Binary tree: tiap sel membuka dinding atas atau kiri secara acak. Satu lintasan O(n)
+// tanpa state tambahan, tapi bias kuat (baris atas dan kolom kiri selalu lorong lurus).
+public class BinaryTreeStrategy implements GenerationStrategy {
+    @Override
+    public String getName() { return "Binary Tree"; }
+
+    @Override
+    public void carve(Maze maze, SplittableRandom random) {
+        int width = maze.getWidth(), height = maze.getHeight();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (x == 0 && y == 0) continue;
+                int dir;
+                if (y == 0) dir = Maze.LEFT;
+                else if (x == 0) dir = Maze.TOP;
+                else dir = random.nextBoolean() ? Maze.TOP : Maze.LEFT;
+                maze.removeWall(y * width + x, dir);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+import java.util.Arrays;
+
+// Antrean bucket melingkar (algoritma Dial) untuk bobot sisi bulat kecil 0..maxEdgeWeight.
+// Semua kunci aktif berada di [cursor, cursor + maxEdgeWeight], jadi cukup maxEdgeWeight + 1
+// bucket. Push, decrease-key dan pop O(1) amortisasi; tiap bucket adalah linked list intrusif.
+public class BucketQueue implements MonotoneQueue {
+    private final int[] head;
+    private final int[] next;
+    private final int[] prev;
+    private final int[] keys;
+    private int cursor;
+    private int size;
+
+    public BucketQueue(int capacity, int maxEdgeWeight) {
+        head = new int[maxEdgeWeight + 1];
+        next = new int[capacity];
+        prev = new int[capacity];
+        keys = new int[capacity];
+        Arrays.fill(head, -1);
+    }
+
+    public int getMaxEdgeWeight() { return head.length - 1; }
+
+    @Override
+    public void push(int id, int key) {
+        keys[id] = key;
+        link(id);
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int id, int key) {
+        unlink(id);
+        keys[id] = key;
+        link(id);
+    }
+
+    @Override
+    public int pop() {
+        int b = cursor % head.length;
+        while (head[b] == -1) {
+            cursor++;
+            b = cursor % head.length;
+        }
+        int id = head[b];
+        unlink(id);
+        size--;
+        return id;
+    }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    @Override
+    public void clear() {
+        Arrays.fill(head, -1);
+        cursor = 0;
+        size = 0;
+    }
+
+    private void link(int id) {
+        int b = keys[id] % head.length;
+        prev[id] = -1;
+        next[id] = head[b];
+        if (head[b] != -1) prev[head[b]] = id;
+        head[b] = id;
+    }
+
+    private void unlink(int id) {
+        if (prev[id] != -1) next[prev[id]] = next[id];
+        else head[keys[id] % head.length] = next[id];
+        if (next[id] != -1) prev[next[id]] = prev[id];
+    }
+}
@@ -1,49 +1,54 @@
 import java.awt.*;
+import java.util.SplittableRandom;
 
-public class Cell implements Comparable<Cell> {
-    public int x, y;
-    public boolean[] walls = {true, true, true, true};
-    public int weight = 1;
-    private boolean visited = false;
-    public Cell parent;
-    public int g, h, f;
+// Tampilan tipis atas satu sel di Maze; datanya tetap disimpan di array Maze.
+public class Cell {
+    public final int x, y;
+    private final Maze maze;
 
-    public Cell(int x, int y) {
+    public Cell(Maze maze, int x, int y) {
+        this.maze = maze;
         this.x = x;
         this.y = y;
     }
 
     public int getX() { return x; }
     public int getY() { return y; }
+    public int index() { return maze.index(x, y); }
 
-    public boolean hasTopWall() { return walls[0]; }
-    public boolean hasRightWall() { return walls[1]; }
-    public boolean hasBottomWall() { return walls[2]; }
-    public boolean hasLeftWall() { return walls[3]; }
+    public boolean hasTopWall() { return maze.hasWall(x, y, Maze.TOP); }
+    public boolean hasRightWall() { return maze.hasWall(x, y, Maze.RIGHT); }
+    public boolean hasBottomWall() { return maze.hasWall(x, y, Maze.BOTTOM); }
+    public boolean hasLeftWall() { return maze.hasWall(x, y, Maze.LEFT); }
 
-    public void removeTopWall() { walls[0] = false; }
-    public void removeRightWall() { walls[1] = false; }
-    public void removeBottomWall() { walls[2] = false; }
-    public void removeLeftWall() { walls[3] = false; }
+    public void removeTopWall() { maze.removeWall(x, y, Maze.TOP); }
+    public void removeRightWall() { maze.removeWall(x, y, Maze.RIGHT); }
+    public void removeBottomWall() { maze.removeWall(x, y, Maze.BOTTOM); }
+    public void removeLeftWall() { maze.removeWall(x, y, Maze.LEFT); }
 
-    public boolean isVisited() { return visited; }
-    public void setVisited(boolean visited) { this.visited = visited; }
+    public int getWeight() { return maze.getWeight(index()); }
+    public void setWeight(int weight) { maze.setWeight(index(), weight); }
 
-    public void setRandomTerrain() {
-        double r = Math.random();
-        if (r < 0.6) weight = 1;
-        else if (r < 0.9) weight = 5;
-        else weight = 10;
+    public void setRandomTerrain(SplittableRandom random) {
+        setWeight(Maze.randomTerrainWeight(random));
     }
 
     @Override
-    public int compareTo(Cell other) {
-        return Integer.compare(this.f, other.f);
+    public boolean equals(Object o) {
+        if (!(o instanceof Cell)) return false;
+        Cell other = (Cell) o;
+        return other.maze == maze && other.x == x && other.y == y;
+    }
+
+    @Override
+    public int hashCode() {
+        return index();
     }
 
     public void draw(Graphics g2d, int size) {
         int xPos = x * size;
         int yPos = y * size;
+        int weight = getWeight();
 
         if (weight == 1) g2d.setColor(new Color(220, 255, 220));
         else if (weight == 5) g2d.setColor(new Color(139, 69, 19));
@@ -52,9 +57,9 @@ public class Cell implements Comparable<Cell> {
         g2d.fillRect(xPos, yPos, size, size);
 
         g2d.setColor(Color.BLACK);
-        if (walls[0]) g2d.drawLine(xPos, yPos, xPos + size, yPos);
-        if (walls[1]) g2d.drawLine(xPos + size, yPos, xPos + size, yPos + size);
-        if (walls[2]) g2d.drawLine(xPos + size, yPos + size, xPos, yPos + size);
-        if (walls[3]) g2d.drawLine(xPos, yPos + size, xPos, yPos);
+        if (hasTopWall()) g2d.drawLine(xPos, yPos, xPos + size, yPos);
+        if (hasRightWall()) g2d.drawLine(xPos + size, yPos, xPos + size, yPos + size);
+        if (hasBottomWall()) g2d.drawLine(xPos + size, yPos + size, xPos, yPos + size);
+        if (hasLeftWall()) g2d.drawLine(xPos, yPos + size, xPos, yPos);
     }
-}
\ No newline at end of file
+}
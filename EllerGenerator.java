@@ -0,0 +1,154 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+
+// Generator labirin algoritma Eller yang menghasilkan satu baris per langkah. Hanya state
+// satu baris yang disimpan (label set per kolom + union-find 2 x lebar), jadi memori O(lebar)
+// berapa pun tingginya. Loop 10% (seperti MazeGenerator.addLoops) disisipkan saat baris selesai.
+public class EllerGenerator {
+    public static final int DEFAULT_LOOP_PERCENT = 10;
+
+    // Menerima satu baris: walls[x] berisi bit dinding Maze (TOP, RIGHT, BOTTOM, LEFT).
+    // Array dipakai ulang untuk baris berikutnya, jadi salin jika perlu disimpan.
+    public interface RowConsumer {
+        void acceptRow(int y, byte[] walls) throws IOException;
+    }
+
+    private final int width;
+    private final int height;
+    private final long seed;
+    private int loopPercent = DEFAULT_LOOP_PERCENT;
+
+    public EllerGenerator(int width, int height, long seed) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+    }
+
+    public void setLoopPercent(int loopPercent) { this.loopPercent = loopPercent; }
+
+    public void generate(RowConsumer out) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        int w = width;
+        int[] set = new int[w];
+        int[] parent = new int[2 * w];
+        int[] remap = new int[2 * w];
+        int[] count = new int[2 * w];
+        int[] candidate = new int[2 * w];
+        boolean[] hasDown = new boolean[2 * w];
+        boolean[] openAbove = new boolean[w];
+        boolean[] down = new boolean[w];
+        boolean[] openRight = new boolean[w];
+        byte[] row = new byte[w];
+
+        for (int x = 0; x < w; x++) set[x] = -1;
+
+        for (int y = 0; y < height; y++) {
+            boolean lastRow = y == height - 1;
+
+            // Sel yang tidak tersambung dari atas mendapat label baru [w, 2w)
+            for (int i = 0; i < 2 * w; i++) parent[i] = i;
+            for (int x = 0; x < w; x++) {
+                if (set[x] < 0) set[x] = w + x;
+                openRight[x] = false;
+                down[x] = false;
+            }
+
+            for (int x = 0; x < w - 1; x++) {
+                int a = find(parent, set[x]), b = find(parent, set[x + 1]);
+                if (a != b && (lastRow || random.nextBoolean())) {
+                    parent[b] = a;
+                    openRight[x] = true;
+                }
+            }
+
+            if (!lastRow) {
+                for (int x = 0; x < w; x++) {
+                    int r = find(parent, set[x]);
+                    count[r] = 0;
+                    hasDown[r] = false;
+                }
+                // Tiap set wajib punya minimal satu jalan ke bawah; cadangannya dipilih acak (reservoir)
+                for (int x = 0; x < w; x++) {
+                    int r = find(parent, set[x]);
+                    count[r]++;
+                    if (random.nextInt(count[r]) == 0) candidate[r] = x;
+                    if (random.nextBoolean()) {
+                        down[x] = true;
+                        hasDown[r] = true;
+                    }
+                }
+                for (int x = 0; x < w; x++) {
+                    int r = find(parent, set[x]);
+                    if (!hasDown[r] && candidate[r] == x) down[x] = true;
+                }
+                for (int x = 0; x < w - 1; x++) {
+                    if (random.nextInt(100) < loopPercent) {
+                        if (random.nextBoolean()) openRight[x] = true;
+                        else down[x] = true;
+                    }
+                }
+            }
+
+            for (int x = 0; x < w; x++) {
+                int bits = 0;
+                if (!openAbove[x]) bits |= 1 << Maze.TOP;
+                if (!openRight[x]) bits |= 1 << Maze.RIGHT;
+                if (!down[x]) bits |= 1 << Maze.BOTTOM;
+                if (x == 0 || !openRight[x - 1]) bits |= 1 << Maze.LEFT;
+                row[x] = (byte) bits;
+            }
+            out.acceptRow(y, row);
+
+            // Label set dipadatkan ke [0, w) untuk baris berikutnya
+            for (int x = 0; x < w; x++) remap[find(parent, set[x])] = -1;
+            int nextLabel = 0;
+            for (int x = 0; x < w; x++) {
+                openAbove[x] = down[x];
+                if (!down[x]) {
+                    set[x] = -1;
+                    continue;
+                }
+                int r = find(parent, set[x]);
+                if (remap[r] < 0) remap[r] = nextLabel++;
+                set[x] = remap[r];
+            }
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    public Maze generateMaze() throws IOException {
+        Maze maze = new Maze(width, height);
+        maze.setSeed(seed);
+        generate((y, walls) -> {
+            for (int x = 0; x < width; x++) maze.setWallBits(maze.index(x, y), walls[x]);
+        });
+        return maze;
+    }
+
+    // Stream baris langsung ke file format MazeFile (medan default semua 1)
+    public void generateToFile(Path file) throws IOException {
+        try (MazeFile.RowWriter out = new MazeFile.RowWriter(file, width, height, seed)) {
+            generate(out);
+        }
+    }
+
+    // java EllerGenerator <lebar> <tinggi> <file> [seed]
+    public static void main(String[] args) throws IOException {
+        int w = Integer.parseInt(args[0]);
+        int h = Integer.parseInt(args[1]);
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        long start = System.nanoTime();
+        new EllerGenerator(w, h, seed).generateToFile(Paths.get(args[2]));
+        double secs = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d x %d sel (seed %d) dalam %.2f s, %.1f juta sel/s%n", w, h, seed, secs, (double) w * h / secs / 1e6);
+    }
+}
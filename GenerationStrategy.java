@@ -0,0 +1,10 @@
+import java.util.SplittableRandom;
+
+// Algoritma pembentuk labirin sempurna (spanning tree). Maze yang diterima masih tertutup
+// semua dindingnya; loop tambahan ditangani MazeGenerator setelah carve selesai.
+// Implementasi hanya memakai array primitif: tidak ada alokasi di loop utama.
+public interface GenerationStrategy {
+    String getName();
+
+    void carve(Maze maze, SplittableRandom random);
+}
@@ -0,0 +1,370 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// HPA*: grid dibagi menjadi cluster clusterSize x clusterSize. Setiap lintasan terbuka di
+// batas antar-cluster menjadi pintu (sel di kedua sisinya jadi node abstrak). Lorong labirin
+// hanya selebar satu sel, jadi pintu tidak digabung per ruas: graf abstrak tetap lengkap dan
+// jalurnya sama murahnya dengan Dijkstra. Biaya antar-pintu di dalam cluster dihitung sekali;
+// query mencari di graf pintu lalu memperhalus tiap lompatan dengan pencarian lokal.
+public class HierarchicalPathfinder {
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final Maze maze;
+    private final int clusterSize;
+    private final int clustersX, clustersY;
+    private final int[][] clusterNodes;
+    private final int[][] clusterDist;
+    private final long[] fingerprint;
+    private final int[] nodeSlot;
+    private volatile long builtRevision = -1;
+
+    public HierarchicalPathfinder(Maze maze) {
+        this(maze, DEFAULT_CLUSTER_SIZE);
+    }
+
+    public HierarchicalPathfinder(Maze maze, int clusterSize) {
+        this.maze = maze;
+        this.clusterSize = clusterSize;
+        clustersX = (maze.getWidth() + clusterSize - 1) / clusterSize;
+        clustersY = (maze.getHeight() + clusterSize - 1) / clusterSize;
+        int clusters = clustersX * clustersY;
+        clusterNodes = new int[clusters][];
+        clusterDist = new int[clusters][];
+        fingerprint = new long[clusters];
+        nodeSlot = new int[maze.size()];
+        Arrays.fill(nodeSlot, -1);
+        refresh();
+    }
+
+    public int getClusterCount() { return clusterNodes.length; }
+
+    public int getNodeCount() {
+        int total = 0;
+        for (int[] nodes : clusterNodes) total += nodes.length;
+        return total;
+    }
+
+    // Membangun ulang hanya cluster yang dinding/medannya berubah sejak build terakhir.
+    // Perubahan dinding di batas mengubah sidik jari kedua cluster, jadi pintunya tetap sepasang.
+    // Kalau thread diinterupsi, berhenti di antara cluster: sidik jari hanya disimpan untuk
+    // cluster yang selesai, jadi refresh berikutnya melanjutkan sisanya.
+    public synchronized int refresh() {
+        if (builtRevision == maze.getRevision()) return 0;
+        // Workspace sementara seukuran satu cluster; tidak ditahan di thread setelah build
+        LocalSearch local = new LocalSearch(clusterSize * clusterSize);
+        int rebuilt = 0;
+        for (int c = 0; c < clusterNodes.length; c++) {
+            long fp = fingerprint(c);
+            if (clusterNodes[c] != null && fp == fingerprint[c]) continue;
+            if (Thread.currentThread().isInterrupted()) return rebuilt;
+            buildNodes(c);
+            buildDistances(c, local);
+            fingerprint[c] = fp;
+            rebuilt++;
+        }
+        builtRevision = maze.getRevision();
+        return rebuilt;
+    }
+
+    public List<Cell> findPath(Cell start, Cell end, SearchContext ctx) {
+        if (builtRevision != maze.getRevision()) refresh();
+        if (builtRevision != maze.getRevision()) return new ArrayList<>();
+        LocalSearch local = ctx.localSearch(clusterSize * clusterSize);
+        int seen = ctx.beginSearch();
+        int closed = seen + 1;
+        SearchStats stats = ctx.stats;
+        // Pencarian lokal di dalam cluster ikut dihitung ke statistik query ini
+        local.stats = stats;
+        try {
+            return findPath(start, end, ctx, local, seen, closed);
+        } finally {
+            local.stats = null;
+        }
+    }
+
+    private List<Cell> findPath(Cell start, Cell end, SearchContext ctx, LocalSearch local, int seen, int closed) {
+        SearchStats stats = ctx.stats;
+        int s = start.index(), t = end.index();
+        int cs = clusterOf(s), ct = clusterOf(t);
+        int[] startNodes = clusterNodes[cs], goalNodes = clusterNodes[ct];
+
+        // Biaya s -> pintu cluster awal, dan (jika satu cluster) s -> t langsung
+        local.run(this, cs, s, true);
+        int[] startCost = local.startCost(startNodes.length);
+        for (int k = 0; k < startNodes.length; k++) startCost[k] = local.costTo(this, startNodes[k]);
+        long best = cs == ct ? local.costTo(this, t) : INF;
+
+        // Biaya pintu cluster tujuan -> t (pencarian lokal mundur dari t)
+        local.run(this, ct, t, false);
+        int[] goalCost = local.goalCost(goalNodes.length);
+        for (int k = 0; k < goalNodes.length; k++) goalCost[k] = local.costTo(this, goalNodes[k]);
+
+        int[] parent = ctx.parent, cost = ctx.cost, mark = ctx.mark;
+        IndexedMinHeap open = ctx.open;
+        open.clear();
+
+        for (int k = 0; k < startNodes.length; k++) {
+            if (startCost[k] == INF) continue;
+            int n = startNodes[k];
+            mark[n] = seen;
+            cost[n] = startCost[k];
+            parent[n] = -1;
+            open.push(n, (long) cost[n] + heuristic(n, t));
+            stats.push(open.size());
+        }
+
+        int bestNode = -1;
+        while (!open.isEmpty() && open.peekKey() < best) {
+            int u = open.pop();
+            stats.pops++;
+            if (stats.cancelled()) return new ArrayList<>();
+            mark[u] = closed;
+            stats.expanded++;
+            int cu = clusterOf(u);
+
+            if (cu == ct && goalCost[nodeSlot[u]] != INF && (long) cost[u] + goalCost[nodeSlot[u]] < best) {
+                best = (long) cost[u] + goalCost[nodeSlot[u]];
+                bestNode = u;
+            }
+
+            int[] nodes = clusterNodes[cu];
+            int[] dist = clusterDist[cu];
+            int row = nodeSlot[u] * nodes.length;
+            for (int k = 0; k < nodes.length; k++) {
+                if (dist[row + k] == INF) continue;
+                stats.generated++;
+                relax(ctx, u, nodes[k], cost[u] + dist[row + k], t, seen, closed);
+            }
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(u, dir)) continue;
+                int v = maze.neighbor(u, dir);
+                if (nodeSlot[v] < 0 || clusterOf(v) == cu) continue;
+                stats.generated++;
+                relax(ctx, u, v, cost[u] + maze.getWeight(v), t, seen, closed);
+            }
+        }
+
+        List<Cell> path = new ArrayList<>();
+        if (best == INF) return path;
+        path.add(start);
+        if (bestNode == -1) {
+            local.appendPath(this, cs, s, t, path);
+            return path;
+        }
+
+        int hops = 0;
+        for (int n = bestNode; n != -1; n = parent[n]) hops++;
+        int[] chain = local.chain(hops);
+        for (int n = bestNode, i = hops - 1; n != -1; n = parent[n], i--) chain[i] = n;
+
+        local.appendPath(this, cs, s, chain[0], path);
+        for (int i = 1; i < hops; i++) {
+            int a = chain[i - 1], b = chain[i];
+            if (clusterOf(a) == clusterOf(b)) local.appendPath(this, clusterOf(a), a, b, path);
+            else path.add(maze.cell(b));
+        }
+        local.appendPath(this, ct, chain[hops - 1], t, path);
+        return path;
+    }
+
+    private void relax(SearchContext ctx, int u, int v, int newCost, int t, int seen, int closed) {
+        if (ctx.mark[v] == closed) return;
+        if (ctx.mark[v] != seen) {
+            ctx.mark[v] = seen;
+            ctx.cost[v] = newCost;
+            ctx.parent[v] = u;
+            ctx.open.push(v, (long) newCost + heuristic(v, t));
+            ctx.stats.push(ctx.open.size());
+        } else if (newCost < ctx.cost[v]) {
+            ctx.cost[v] = newCost;
+            ctx.parent[v] = u;
+            ctx.open.decreaseKey(v, (long) newCost + heuristic(v, t));
+            ctx.stats.decreaseKeys++;
+        }
+    }
+
+    private int heuristic(int a, int b) {
+        return Math.abs(maze.xOf(a) - maze.xOf(b)) + Math.abs(maze.yOf(a) - maze.yOf(b));
+    }
+
+    int clusterOf(int cell) {
+        return (maze.yOf(cell) / clusterSize) * clustersX + maze.xOf(cell) / clusterSize;
+    }
+
+    int x0(int cluster) { return (cluster % clustersX) * clusterSize; }
+    int y0(int cluster) { return (cluster / clustersX) * clusterSize; }
+    int x1(int cluster) { return Math.min(x0(cluster) + clusterSize, maze.getWidth()); }
+    int y1(int cluster) { return Math.min(y0(cluster) + clusterSize, maze.getHeight()); }
+
+    Maze getMaze() { return maze; }
+    int getClusterSize() { return clusterSize; }
+
+    private long fingerprint(int cluster) {
+        long h = 1125899906842597L;
+        for (int y = y0(cluster); y < y1(cluster); y++) {
+            for (int x = x0(cluster); x < x1(cluster); x++) {
+                int i = maze.index(x, y);
+                h = 31 * h + ((maze.wallBits(i) << 8) | maze.getWeight(i));
+            }
+        }
+        return h;
+    }
+
+    // Pintu = tiap sel di tepi cluster yang punya lintasan terbuka ke cluster tetangga
+    private void buildNodes(int cluster) {
+        if (clusterNodes[cluster] != null) {
+            for (int n : clusterNodes[cluster]) nodeSlot[n] = -1;
+        }
+        int x0 = x0(cluster), y0 = y0(cluster), x1 = x1(cluster) - 1, y1 = y1(cluster) - 1;
+        List<Integer> nodes = new ArrayList<>();
+        scanBorder(x0, y0, 1, 0, x1 - x0 + 1, Maze.TOP, nodes);
+        scanBorder(x0, y1, 1, 0, x1 - x0 + 1, Maze.BOTTOM, nodes);
+        scanBorder(x0, y0, 0, 1, y1 - y0 + 1, Maze.LEFT, nodes);
+        scanBorder(x1, y0, 0, 1, y1 - y0 + 1, Maze.RIGHT, nodes);
+
+        int[] result = new int[nodes.size()];
+        for (int k = 0; k < result.length; k++) {
+            result[k] = nodes.get(k);
+            nodeSlot[result[k]] = k;
+        }
+        clusterNodes[cluster] = result;
+    }
+
+    private void scanBorder(int x, int y, int dx, int dy, int length, int dir, List<Integer> nodes) {
+        for (int k = 0; k < length; k++) {
+            int cell = maze.index(x + dx * k, y + dy * k);
+            if (maze.canMove(cell, dir) && !nodes.contains(cell)) nodes.add(cell);
+        }
+    }
+
+    private void buildDistances(int cluster, LocalSearch local) {
+        int[] nodes = clusterNodes[cluster];
+        int k = nodes.length;
+        int[] dist = new int[k * k];
+        for (int a = 0; a < k; a++) {
+            local.run(this, cluster, nodes[a], true);
+            for (int b = 0; b < k; b++) dist[a * k + b] = local.costTo(this, nodes[b]);
+        }
+        clusterDist[cluster] = dist;
+    }
+
+    // Dijkstra yang dibatasi satu cluster, workspace seukuran cluster (milik SearchContext pemanggil)
+    static class LocalSearch {
+        private final int[] cost, parent, mark;
+        private final IndexedMinHeap open;
+        private int epoch = 0;
+        private int cluster;
+        private int[] startCost = new int[16], goalCost = new int[16], chain = new int[64];
+        // Diisi findPath selama satu query; null saat membangun jarak antar pintu (refresh)
+        SearchStats stats;
+
+        LocalSearch(int area) {
+            cost = new int[area];
+            parent = new int[area];
+            mark = new int[area];
+            open = new IndexedMinHeap(area);
+        }
+
+        int area() { return cost.length; }
+
+        int[] startCost(int n) {
+            if (startCost.length < n) startCost = new int[n * 2];
+            return startCost;
+        }
+
+        int[] goalCost(int n) {
+            if (goalCost.length < n) goalCost = new int[n * 2];
+            return goalCost;
+        }
+
+        int[] chain(int n) {
+            if (chain.length < n) chain = new int[n * 2];
+            return chain;
+        }
+
+        // forward: biaya masuk sel tetangga; mundur: biaya meninggalkan sel saat ini
+        void run(HierarchicalPathfinder h, int cluster, int source, boolean forward) {
+            Maze maze = h.getMaze();
+            this.cluster = cluster;
+            if (epoch >= Integer.MAX_VALUE - 2) {
+                Arrays.fill(mark, 0);
+                epoch = 0;
+            }
+            epoch += 2;
+            int seen = epoch, closed = epoch + 1;
+            int x0 = h.x0(cluster), y0 = h.y0(cluster), x1 = h.x1(cluster), y1 = h.y1(cluster);
+            int cs = h.getClusterSize();
+            open.clear();
+
+            int src = local(h, source);
+            cost[src] = 0;
+            parent[src] = -1;
+            mark[src] = seen;
+            open.push(src, 0);
+            if (stats != null) stats.push(1);
+
+            while (!open.isEmpty()) {
+                int u = open.pop();
+                mark[u] = closed;
+                if (stats != null) {
+                    stats.pops++;
+                    if (stats.cancelled()) return;
+                    stats.expanded++;
+                }
+                int ux = x0 + u % cs, uy = y0 + u / cs;
+                int cell = maze.index(ux, uy);
+
+                for (int dir = 0; dir < 4; dir++) {
+                    if (maze.hasWall(cell, dir)) continue;
+                    int nx = ux + Maze.DX[dir], ny = uy + Maze.DY[dir];
+                    if (nx < x0 || nx >= x1 || ny < y0 || ny >= y1) continue;
+                    int v = (ny - y0) * cs + (nx - x0);
+                    if (stats != null) stats.generated++;
+                    if (mark[v] == closed) continue;
+
+                    int newCost = cost[u] + maze.getWeight(forward ? maze.index(nx, ny) : cell);
+                    if (mark[v] != seen) {
+                        mark[v] = seen;
+                        cost[v] = newCost;
+                        parent[v] = u;
+                        open.push(v, newCost);
+                        if (stats != null) stats.push(open.size());
+                    } else if (newCost < cost[v]) {
+                        cost[v] = newCost;
+                        parent[v] = u;
+                        open.decreaseKey(v, newCost);
+                        if (stats != null) stats.decreaseKeys++;
+                    }
+                }
+            }
+        }
+
+        int costTo(HierarchicalPathfinder h, int cell) {
+            int v = local(h, cell);
+            return mark[v] >= epoch ? cost[v] : INF;
+        }
+
+        // Menambahkan sel from (eksklusif) .. to (inklusif) ke path
+        void appendPath(HierarchicalPathfinder h, int cluster, int from, int to, List<Cell> path) {
+            if (from == to) return;
+            run(h, cluster, from, true);
+            Maze maze = h.getMaze();
+            int cs = h.getClusterSize();
+            int x0 = h.x0(cluster), y0 = h.y0(cluster);
+            int insertAt = path.size();
+            for (int v = local(h, to); parent[v] != -1; v = parent[v]) {
+                path.add(maze.cell(maze.index(x0 + v % cs, y0 + v / cs)));
+            }
+            Collections.reverse(path.subList(insertAt, path.size()));
+        }
+
+        private int local(HierarchicalPathfinder h, int cell) {
+            Maze maze = h.getMaze();
+            int cs = h.getClusterSize();
+            return (maze.yOf(cell) - h.y0(cluster)) * cs + (maze.xOf(cell) - h.x0(cluster));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Perencana inkremental LPA* untuk start dan tujuan tetap. State g/rhs disimpan antar-query,
+// jadi setelah satu sel berubah bobot atau dinding, hanya bagian solusi yang terdampak yang
+// diperbaiki. Ubah maze lewat setWeight/setWall di sini; kalau maze diubah dari luar
+// (revisi tidak cocok), planner otomatis mulai ulang dari nol pada query berikutnya.
+public class IncrementalPlanner {
+    private static final int INF = Integer.MAX_VALUE / 4;
+
+    private final Maze maze;
+    private final int start, goal;
+    private final int[] g;
+    private final int[] rhs;
+    private final IndexedMinHeap open;
+    private long expectedRevision;
+    private int expanded;
+
+    public IncrementalPlanner(Maze maze, Cell start, Cell goal) {
+        this.maze = maze;
+        this.start = start.index();
+        this.goal = goal.index();
+        g = new int[maze.size()];
+        rhs = new int[maze.size()];
+        open = new IndexedMinHeap(maze.size());
+        reset();
+    }
+
+    public void reset() {
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        open.clear();
+        rhs[start] = 0;
+        open.push(start, key(start));
+        expectedRevision = maze.getRevision();
+    }
+
+    public void setWeight(int x, int y, int weight) {
+        syncWithMaze();
+        int v = maze.index(x, y);
+        if (maze.getWeight(v) == weight) return;
+        maze.setWeight(v, weight);
+        expectedRevision = maze.getRevision();
+        // Bobot v hanya memengaruhi biaya sisi yang masuk ke v
+        updateVertex(v);
+    }
+
+    public void setWall(int x, int y, int dir, boolean present) {
+        syncWithMaze();
+        int nx = x + Maze.DX[dir], ny = y + Maze.DY[dir];
+        if (!maze.inBounds(nx, ny)) return;
+        int u = maze.index(x, y);
+        if (maze.hasWall(u, dir) == present) return;
+        maze.setWall(x, y, dir, present);
+        expectedRevision = maze.getRevision();
+        updateVertex(u);
+        updateVertex(maze.index(nx, ny));
+    }
+
+    public int getCost() {
+        computeShortestPath();
+        return g[goal] >= INF ? -1 : g[goal];
+    }
+
+    // Node yang diekspansi sejak perubahan terakhir
+    public int getLastExpanded() { return expanded; }
+
+    public List<Cell> getPath() {
+        computeShortestPath();
+        List<Cell> path = new ArrayList<>();
+        if (g[goal] >= INF) return path;
+
+        // Mundur dari tujuan lewat pendahulu yang memberi g terkecil
+        int current = goal;
+        path.add(maze.cell(current));
+        while (current != start) {
+            int best = -1, bestCost = INF;
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(current, dir)) continue;
+                int p = maze.neighbor(current, dir);
+                if (g[p] < bestCost) {
+                    bestCost = g[p];
+                    best = p;
+                }
+            }
+            current = best;
+            path.add(maze.cell(current));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private void syncWithMaze() {
+        if (maze.getRevision() != expectedRevision) reset();
+    }
+
+    private void computeShortestPath() {
+        syncWithMaze();
+        expanded = 0;
+        while (!open.isEmpty() && (open.peekKey() < key(goal) || rhs[goal] != g[goal])) {
+            int u = open.pop();
+            expanded++;
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                for (int dir = 0; dir < 4; dir++) {
+                    if (maze.canMove(u, dir)) updateVertex(maze.neighbor(u, dir));
+                }
+            } else {
+                g[u] = INF;
+                updateVertex(u);
+                for (int dir = 0; dir < 4; dir++) {
+                    if (maze.canMove(u, dir)) updateVertex(maze.neighbor(u, dir));
+                }
+            }
+        }
+    }
+
+    private void updateVertex(int v) {
+        if (v != start) {
+            int best = INF;
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(v, dir)) continue;
+                int p = maze.neighbor(v, dir);
+                if (g[p] < best) best = g[p];
+            }
+            rhs[v] = best >= INF ? INF : best + maze.getWeight(v);
+        }
+        if (open.contains(v)) open.remove(v);
+        if (g[v] != rhs[v]) open.push(v, key(v));
+    }
+
+    // Kunci LPA* [min(g, rhs) + h; min(g, rhs)] dikemas dalam satu long
+    private long key(int v) {
+        int m = Math.min(g[v], rhs[v]);
+        int h = Math.abs(maze.xOf(v) - maze.xOf(goal)) + Math.abs(maze.yOf(v) - maze.yOf(goal));
+        return ((long) (m + h) << 32) | m;
+    }
+}
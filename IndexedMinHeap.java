@@ -0,0 +1,137 @@
+import java.util.Arrays;
+
+// Min-heap d-ary yang diindeks dengan id sel: decrease-key O(log n) tanpa remove O(n).
+// Prioritas di-cache sejajar dengan posisi heap sehingga sift tidak membaca map apa pun.
+public class IndexedMinHeap {
+    private final int arity;
+    private int[] heap;
+    private long[] keys;
+    private int[] pos;
+    private int size;
+
+    public IndexedMinHeap(int capacity) {
+        this(capacity, 4);
+    }
+
+    public IndexedMinHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("arity minimal 2");
+        this.arity = arity;
+        heap = new int[Math.max(1, capacity)];
+        keys = new long[heap.length];
+        pos = new int[Math.max(1, capacity)];
+        Arrays.fill(pos, -1);
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public boolean contains(int id) {
+        return id < pos.length && pos[id] >= 0;
+    }
+
+    public long keyOf(int id) { return keys[pos[id]]; }
+    public long peekKey() { return keys[0]; }
+    public int peek() { return heap[0]; }
+
+    public void push(int id, long key) {
+        ensureCapacity(id + 1);
+        int i = size++;
+        heap[i] = id;
+        keys[i] = key;
+        pos[id] = i;
+        siftUp(i);
+    }
+
+    public void decreaseKey(int id, long key) {
+        int i = pos[id];
+        keys[i] = key;
+        siftUp(i);
+    }
+
+    // Push jika belum ada, decrease-key jika key baru lebih kecil
+    public void pushOrDecrease(int id, long key) {
+        if (!contains(id)) push(id, key);
+        else if (key < keys[pos[id]]) decreaseKey(id, key);
+    }
+
+    public int pop() {
+        int top = heap[0];
+        pos[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            keys[0] = keys[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public void remove(int id) {
+        int i = pos[id];
+        pos[id] = -1;
+        size--;
+        if (i == size) return;
+        heap[i] = heap[size];
+        keys[i] = keys[size];
+        pos[heap[i]] = i;
+        siftUp(i);
+        siftDown(pos[heap[i]]);
+    }
+
+    // Hanya menyentuh elemen yang masih di heap, bukan seluruh array pos
+    public void clear() {
+        for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+        size = 0;
+    }
+
+    public void ensureCapacity(int ids) {
+        if (ids > pos.length) {
+            int old = pos.length;
+            pos = Arrays.copyOf(pos, Math.max(ids, old * 2));
+            Arrays.fill(pos, old, pos.length, -1);
+        }
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+            keys = Arrays.copyOf(keys, heap.length);
+        }
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i];
+        long key = keys[i];
+        while (i > 0) {
+            int p = (i - 1) / arity;
+            if (keys[p] <= key) break;
+            heap[i] = heap[p];
+            keys[i] = keys[p];
+            pos[heap[i]] = i;
+            i = p;
+        }
+        heap[i] = id;
+        keys[i] = key;
+        pos[id] = i;
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        long key = keys[i];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) break;
+            int best = first;
+            int last = Math.min(first + arity, size);
+            for (int c = first + 1; c < last; c++) {
+                if (keys[c] < keys[best]) best = c;
+            }
+            if (key <= keys[best]) break;
+            heap[i] = heap[best];
+            keys[i] = keys[best];
+            pos[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = id;
+        keys[i] = key;
+        pos[id] = i;
+    }
+}
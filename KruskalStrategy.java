@@ -0,0 +1,51 @@
+import java.util.SplittableRandom;
+
+// Kruskal acak: semua dinding dalam diacak (Fisher-Yates) lalu dibuka jika menyambung dua
+// komponen berbeda. Union-find dengan path halving + union by size.
+// Edge disimpan sebagai sel * 2 + (0 = kanan, 1 = bawah).
+public class KruskalStrategy implements GenerationStrategy {
+    @Override
+    public String getName() { return "Kruskal"; }
+
+    @Override
+    public void carve(Maze maze, SplittableRandom random) {
+        int width = maze.getWidth(), height = maze.getHeight();
+        int n = maze.size();
+
+        int[] edges = new int[(width - 1) * height + width * (height - 1)];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (i % width < width - 1) edges[count++] = i * 2;
+            if (i / width < height - 1) edges[count++] = i * 2 + 1;
+        }
+        for (int k = count - 1; k > 0; k--) {
+            int j = random.nextInt(k + 1);
+            int t = edges[k]; edges[k] = edges[j]; edges[j] = t;
+        }
+
+        int[] parent = new int[n];
+        int[] size = new int[n];
+        for (int i = 0; i < n; i++) { parent[i] = i; size[i] = 1; }
+
+        int joined = 0;
+        for (int k = 0; k < count && joined < n - 1; k++) {
+            int cell = edges[k] >>> 1;
+            int dir = (edges[k] & 1) == 0 ? Maze.RIGHT : Maze.BOTTOM;
+            int a = find(parent, cell), b = find(parent, maze.neighbor(cell, dir));
+            if (a == b) continue;
+            if (size[a] < size[b]) { int t = a; a = b; b = t; }
+            parent[b] = a;
+            size[a] += size[b];
+            maze.removeWall(cell, dir);
+            joined++;
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
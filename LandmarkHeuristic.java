@@ -0,0 +1,163 @@
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Heuristik ALT (A*, Landmark, Triangle inequality). Jarak Dijkstra eksak dari beberapa
+// landmark disimpan di int[] per landmark. Biaya di sini = bobot sel yang dimasuki, dan
+// dinding berlaku dua arah, jadi d(v, L) = d(L, v) + w(L) - w(v): satu tabel per landmark cukup.
+// Tabel terikat pada revisi maze; kalau maze berubah, tabel lama tidak dipakai (A* kembali ke
+// Manhattan) sampai pembangunan ulang di background selesai.
+public class LandmarkHeuristic {
+    public static final int DEFAULT_LANDMARKS = 8;
+    private static final int INF = Integer.MAX_VALUE;
+
+    private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "landmark-builder");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Maze maze;
+    private final int count;
+    private volatile Tables tables;
+    private boolean rebuildPending;
+
+    // Snapshot tabel landmark untuk satu revisi maze; tidak pernah diubah setelah dibuat
+    public static class Tables {
+        final long revision;
+        final int[] landmarks;
+        final int[][] dist;
+
+        Tables(long revision, int[] landmarks, int[][] dist) {
+            this.revision = revision;
+            this.landmarks = landmarks;
+            this.dist = dist;
+        }
+
+        public int[] getLandmarks() { return landmarks; }
+
+        // Batas bawah biaya v -> t dari semua landmark (ketaksamaan segitiga dua arah)
+        int estimate(Maze maze, int v, int t) {
+            int best = 0;
+            int wv = maze.getWeight(v), wt = maze.getWeight(t);
+            for (int k = 0; k < dist.length; k++) {
+                int[] d = dist[k];
+                int dv = d[v], dt = d[t];
+                if (dv == INF || dt == INF) continue;
+                int viaFrom = dt - dv;
+                int viaTo = (dv - wv) - (dt - wt);
+                if (viaFrom > best) best = viaFrom;
+                if (viaTo > best) best = viaTo;
+            }
+            return best;
+        }
+    }
+
+    public LandmarkHeuristic(Maze maze) {
+        this(maze, DEFAULT_LANDMARKS);
+    }
+
+    public LandmarkHeuristic(Maze maze, int count) {
+        this.maze = maze;
+        this.count = Math.max(1, Math.min(count, maze.size()));
+    }
+
+    // Tabel untuk revisi maze saat ini, atau null jika masih dibangun ulang
+    public Tables current() {
+        Tables t = tables;
+        if (t != null && t.revision == maze.getRevision()) return t;
+        rebuildAsync();
+        return null;
+    }
+
+    // null kalau thread pemanggil diinterupsi sebelum semua tabel selesai
+    public Tables buildNow() {
+        Tables t = build();
+        if (t != null) tables = t;
+        return t;
+    }
+
+    public synchronized void rebuildAsync() {
+        if (rebuildPending) return;
+        rebuildPending = true;
+        BUILDER.submit(() -> {
+            Tables t;
+            do {
+                t = build();
+            } while (t == null || t.revision != maze.getRevision());
+            tables = t;
+            synchronized (this) {
+                rebuildPending = false;
+            }
+        });
+    }
+
+    // Pemilihan farthest-point: landmark berikutnya adalah sel dengan jarak minimum
+    // terbesar ke semua landmark yang sudah dipilih
+    private Tables build() {
+        long revision = maze.getRevision();
+        int n = maze.size();
+        SearchContext ctx = new SearchContext(n);
+        int[] landmarks = new int[count];
+        int[][] dist = new int[count][];
+        int[] nearest = new int[n];
+        Arrays.fill(nearest, INF);
+
+        int[] seed = new int[n];
+        if (!dijkstra(0, ctx, seed)) return null;
+        int next = farthest(seed);
+
+        for (int k = 0; k < count; k++) {
+            landmarks[k] = next;
+            dist[k] = new int[n];
+            if (!dijkstra(next, ctx, dist[k])) return null;
+            for (int i = 0; i < n; i++) nearest[i] = Math.min(nearest[i], dist[k][i]);
+            next = farthest(nearest);
+        }
+        return new Tables(revision, landmarks, dist);
+    }
+
+    private int farthest(int[] d) {
+        int best = 0;
+        for (int i = 1; i < d.length; i++) {
+            if (d[i] != INF && (d[best] == INF || d[i] > d[best])) best = i;
+        }
+        return best;
+    }
+
+    // false kalau dihentikan karena interupsi (dicek tiap 4096 pop, seperti loop solver)
+    private boolean dijkstra(int source, SearchContext ctx, int[] out) {
+        Arrays.fill(out, INF);
+        MonotoneQueue queue = ctx.monotoneQueue(maze.getMaxWeight());
+        int seen = ctx.beginSearch();
+        int closed = seen + 1;
+        int[] mark = ctx.mark;
+        queue.clear();
+
+        out[source] = 0;
+        mark[source] = seen;
+        queue.push(source, 0);
+
+        int pops = 0;
+        while (!queue.isEmpty()) {
+            if ((++pops & 0xFFF) == 0 && Thread.currentThread().isInterrupted()) return false;
+            int u = queue.pop();
+            mark[u] = closed;
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(u, dir)) continue;
+                int v = maze.neighbor(u, dir);
+                if (mark[v] == closed) continue;
+                int newCost = out[u] + maze.getWeight(v);
+                if (mark[v] != seen) {
+                    mark[v] = seen;
+                    out[v] = newCost;
+                    queue.push(v, newCost);
+                } else if (newCost < out[v]) {
+                    out[v] = newCost;
+                    queue.decreaseKey(v, newCost);
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -4,9 +4,10 @@ import java.util.*;
 public class LeaderboardManager {
     private static final String FILE_NAME = "leaderboard.txt";
 
-    public static void saveScore(String algo, int steps, int cost) {
+    // Format baris: algo,langkah,cost,seed labirin,seed medan (baris lama hanya 3 kolom)
+    public static void saveScore(String algo, int steps, int cost, long seed, long terrainSeed) {
         try (PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(FILE_NAME, true)))) {
-            out.println(algo + "," + steps + "," + cost);
+            out.println(algo + "," + steps + "," + cost + "," + seed + "," + terrainSeed);
         } catch (IOException e) {
             e.printStackTrace();
         }
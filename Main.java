@@ -1,7 +1,19 @@
 import javax.swing.*;
+import java.io.IOException;
+import java.nio.file.Paths;
 
 public class Main {
+    // java Main [--jfr rekaman.jfr]
     public static void main(String[] args) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (!args[i].equals("--jfr")) continue;
+            try {
+                MazeEvents.recordUntilExit(Paths.get(args[i + 1]));
+            } catch (IOException e) {
+                System.err.println("Rekaman JFR gagal dimulai: " + e.getMessage());
+            }
+        }
+
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
@@ -0,0 +1,202 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Model labirin ringkas: semua data sel disimpan di buffer byte, bukan objek Cell.
+// Per sel: 1 byte dinding+flag (nibble bawah = 4 bit dinding, nibble atas = cadangan flag)
+// dan 1 byte bobot medan -> BYTES_PER_CELL = 2 byte.
+// Bandingkan dengan Cell[][] lama (~80+ byte per sel): 5000x5000 cukup ~50 MB.
+// Buffer bisa berada di heap atau hasil map file (MazeFile), jadi solver berjalan langsung
+// di atas file tanpa menyalin/parsing.
+public class Maze {
+    public static final int TOP = 0, RIGHT = 1, BOTTOM = 2, LEFT = 3;
+    public static final int[] DX = {0, 1, 0, -1};
+    public static final int[] DY = {-1, 0, 1, 0};
+    public static final int BYTES_PER_CELL = 2;
+
+    private static final int ALL_WALLS = 0x0F;
+    private static final int FILL_BLOCK_ROWS = 64;
+
+    private final int width;
+    private final int height;
+    private final ByteBuffer walls;
+    private final ByteBuffer terrain;
+    private int maxWeight = 1;
+    private long revision = 0;
+    private long seed;
+    private long terrainSeed;
+
+    public Maze(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int n = width * height;
+        walls = ByteBuffer.allocate(n);
+        terrain = ByteBuffer.allocate(n);
+        Arrays.fill(walls.array(), (byte) ALL_WALLS);
+        Arrays.fill(terrain.array(), (byte) 1);
+    }
+
+    // Maze di atas buffer yang sudah berisi data (mis. MappedByteBuffer dari MazeFile)
+    Maze(int width, int height, ByteBuffer walls, ByteBuffer terrain, int maxWeight) {
+        this.width = width;
+        this.height = height;
+        this.walls = walls;
+        this.terrain = terrain;
+        this.maxWeight = maxWeight;
+    }
+
+    // Tampilan baca-saja posisi 0..size() untuk disalin/di-checksum tanpa mengganggu maze
+    ByteBuffer wallData() { return walls.asReadOnlyBuffer().clear(); }
+    ByteBuffer terrainData() { return terrain.asReadOnlyBuffer().clear(); }
+
+    void setTerrainSeed(long terrainSeed) { this.terrainSeed = terrainSeed; }
+
+    // Naik setiap kali dinding atau medan berubah; dipakai struktur turunan untuk tahu kapan basi
+    public long getRevision() { return revision; }
+
+    // Seed generator dan seed medan terakhir; bersama ukuran cukup untuk membuat ulang maze yang sama
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+    public long getTerrainSeed() { return terrainSeed; }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int size() { return walls.capacity(); }
+
+    public long getFootprintBytes() {
+        return (long) size() * BYTES_PER_CELL;
+    }
+
+    public int index(int x, int y) { return y * width + x; }
+    public int xOf(int i) { return i % width; }
+    public int yOf(int i) { return i / width; }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public boolean hasWall(int i, int dir) {
+        return (walls.get(i) & (1 << dir)) != 0;
+    }
+
+    public boolean hasWall(int x, int y, int dir) {
+        return hasWall(index(x, y), dir);
+    }
+
+    // Bisa melangkah dari sel i ke arah dir (tidak ada dinding dan masih di dalam grid)
+    public boolean canMove(int i, int dir) {
+        return !hasWall(i, dir) && inBounds(xOf(i) + DX[dir], yOf(i) + DY[dir]);
+    }
+
+    public int neighbor(int i, int dir) {
+        return i + DY[dir] * width + DX[dir];
+    }
+
+    // Buka dinding di kedua sisi (sel ini dan tetangganya)
+    public void removeWall(int x, int y, int dir) {
+        setWall(x, y, dir, false);
+    }
+
+    // Pasang/buka dinding di kedua sisi sekaligus agar dinding tetap simetris
+    public void setWall(int x, int y, int dir, boolean present) {
+        int i = index(x, y);
+        setBit(i, 1 << dir, present);
+        revision++;
+        int nx = x + DX[dir], ny = y + DY[dir];
+        if (!inBounds(nx, ny)) return;
+        int j = index(nx, ny);
+        setBit(j, 1 << opposite(dir), present);
+    }
+
+    // Versi indeks untuk generator: tetangga ke arah dir harus berada di dalam grid
+    public void removeWall(int i, int dir) {
+        setBit(i, 1 << dir, false);
+        setBit(neighbor(i, dir), 1 << opposite(dir), false);
+        revision++;
+    }
+
+    private void setBit(int i, int bit, boolean present) {
+        int b = walls.get(i);
+        walls.put(i, (byte) (present ? b | bit : b & ~bit));
+    }
+
+    public int wallBits(int i) {
+        return walls.get(i) & ALL_WALLS;
+    }
+
+    // Menulis 4 bit dinding mentah (urutan bit = TOP, RIGHT, BOTTOM, LEFT); pemanggil
+    // bertanggung jawab menjaga dinding tetangga tetap simetris
+    public void setWallBits(int i, int bits) {
+        walls.put(i, (byte) ((walls.get(i) & ~ALL_WALLS) | (bits & ALL_WALLS)));
+        revision++;
+    }
+
+    // Salin dinding tile (labirin kecil) ke posisi (ox, oy). Tidak menaikkan revisi dan hanya
+    // menyentuh sel tile itu, jadi aman dipanggil paralel untuk tile yang tidak beririsan
+    // selama maze belum dibagikan ke thread lain.
+    public void pasteWalls(Maze tile, int ox, int oy) {
+        for (int ty = 0; ty < tile.height; ty++) {
+            int dst = index(ox, oy + ty), src = ty * tile.width;
+            for (int tx = 0; tx < tile.width; tx++, dst++, src++) {
+                walls.put(dst, (byte) ((walls.get(dst) & ~ALL_WALLS) | (tile.walls.get(src) & ALL_WALLS)));
+            }
+        }
+    }
+
+    public static int opposite(int dir) {
+        return (dir + 2) & 3;
+    }
+
+    public int getWeight(int i) { return terrain.get(i) & 0xFF; }
+    public void setWeight(int i, int weight) {
+        terrain.put(i, (byte) weight);
+        if (weight > maxWeight) maxWeight = weight;
+        revision++;
+    }
+
+    // Batas atas bobot sel (tidak pernah turun kecuali lewat applyTerrain)
+    public int getMaxWeight() { return maxWeight; }
+
+    public void randomizeTerrain(long terrainSeed) {
+        applyTerrain(new WhiteNoiseTerrain(), terrainSeed);
+    }
+
+    // Isi medan paralel per blok baris langsung ke buffer terrain. Generator deterministik per
+    // (seed, baris), jadi hasilnya sama berapa pun jumlah core dan tanpa RNG global bersama.
+    public void applyTerrain(TerrainGenerator generator, long terrainSeed) {
+        MazeEvents.Terrain event = new MazeEvents.Terrain();
+        event.begin();
+        this.terrainSeed = terrainSeed;
+        int blocks = (height + FILL_BLOCK_ROWS - 1) / FILL_BLOCK_ROWS;
+        maxWeight = IntStream.range(0, blocks).parallel().map(b -> {
+            byte[] row = new byte[width];
+            int max = 1;
+            for (int y = b * FILL_BLOCK_ROWS; y < Math.min(height, (b + 1) * FILL_BLOCK_ROWS); y++) {
+                generator.fillRow(terrainSeed, y, width, row, 0);
+                for (byte t : row) max = Math.max(max, t & 0xFF);
+                terrain.put(y * width, row);
+            }
+            return max;
+        }).max().orElse(1);
+        revision++;
+        event.end();
+        if (event.shouldCommit()) {
+            event.width = width;
+            event.height = height;
+            event.terrain = generator.getName();
+            event.seed = terrainSeed;
+            event.commit();
+        }
+    }
+
+    public static int randomTerrainWeight(SplittableRandom random) {
+        double r = random.nextDouble();
+        if (r < 0.6) return 1;
+        else if (r < 0.9) return 5;
+        else return 10;
+    }
+
+    public Cell cell(int x, int y) { return new Cell(this, x, y); }
+    public Cell cell(int i) { return new Cell(this, xOf(i), yOf(i)); }
+}
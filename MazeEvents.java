@@ -0,0 +1,96 @@
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+// Event JDK Flight Recorder untuk fase-fase aplikasi, supaya jeda di produksi bisa dikaitkan
+// dengan GC/JIT di rekaman yang sama. Saat tidak ada rekaman, begin()/shouldCommit() praktis
+// gratis dan objek event dihapus JIT (escape analysis). Stack trace dimatikan agar commit murah.
+public final class MazeEvents {
+    private static final String CATEGORY = "Maze Adventure";
+
+    private MazeEvents() {}
+
+    @Name("maze.Generate")
+    @Label("Generate Maze")
+    @Category({CATEGORY, "Generator"})
+    @StackTrace(false)
+    public static class Generate extends Event {
+        @Label("Width") int width;
+        @Label("Height") int height;
+        @Label("Generator") String generator;
+        @Label("Seed") long seed;
+        @Label("Threads") int threads;
+    }
+
+    @Name("maze.Solve")
+    @Label("Solve Maze")
+    @Category({CATEGORY, "Solver"})
+    @StackTrace(false)
+    public static class Solve extends Event {
+        @Label("Width") int width;
+        @Label("Height") int height;
+        @Label("Algorithm") String algorithm;
+        @Label("Nodes Expanded") long expanded;
+        @Label("Frontier Peak") long frontierPeak;
+        @Label("Path Length") int pathLength;
+    }
+
+    @Name("maze.Terrain")
+    @Label("Apply Terrain")
+    @Category({CATEGORY, "Terrain"})
+    @StackTrace(false)
+    public static class Terrain extends Event {
+        @Label("Width") int width;
+        @Label("Height") int height;
+        @Label("Terrain") String terrain;
+        @Label("Seed") long seed;
+    }
+
+    @Name("maze.Paint")
+    @Label("Paint Maze")
+    @Category({CATEGORY, "Swing"})
+    @StackTrace(false)
+    public static class Paint extends Event {
+        @Label("Width") int width;
+        @Label("Height") int height;
+        @Label("Cell Size") int cellSize;
+        @Label("Path Cells") int pathCells;
+        @Label("Clip Area (px)") long clipArea;
+        @Label("Layer Rebuilt") boolean layerRebuilt;
+        @Label("Level of Detail") boolean lod;
+    }
+
+    // Mulai rekaman dengan setelan "default" JDK (overhead rendah) plus semua event di atas.
+    // Data ditulis ke out saat recording.stop() dipanggil.
+    public static Recording startRecording(Path out) throws IOException {
+        Configuration config;
+        try {
+            config = Configuration.getConfiguration("default");
+        } catch (ParseException e) {
+            throw new IOException("Konfigurasi JFR default tidak bisa dibaca", e);
+        }
+        Recording recording = new Recording(config);
+        recording.setName("maze-adventure");
+        recording.enable(Generate.class);
+        recording.enable(Solve.class);
+        recording.enable(Terrain.class);
+        recording.enable(Paint.class);
+        recording.setToDisk(true);
+        recording.setDestination(out);
+        recording.start();
+        return recording;
+    }
+
+    // Untuk entry point CLI: JFR sendiri menulis rekaman ke out saat JVM keluar
+    public static void recordUntilExit(Path out) throws IOException {
+        startRecording(out).setDumpOnExit(true);
+    }
+}
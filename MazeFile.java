@@ -0,0 +1,200 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+// Format file labirin biner (versi 1), big-endian:
+//   0  int  magic "MAZE"        24 long seed medan
+//   4  int  versi               32 int  bobot maksimum
+//   8  int  lebar               36 int  flag (cadangan, 0)
+//   12 int  tinggi              40 long CRC32C data dinding + medan
+//   16 long seed labirin        48..63 cadangan
+// lalu lebar*tinggi byte dinding dan lebar*tinggi byte medan, sama persis dengan layout Maze
+// di memori. Karena itu open() cukup memetakan kedua bagian (MappedByteBuffer) dan Maze langsung
+// memakainya tanpa salinan atau parsing; halaman baru dibaca saat disentuh. Pengecualian: file
+// baca-saja disalin ke heap, dan open(file, true) membaca seluruh data untuk CRC32C, jadi
+// keduanya O(ukuran file).
+public class MazeFile {
+    public static final int MAGIC = 0x4D415A45;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 64;
+
+    // Maze yang disimpan bisa jadi peta PRIVATE dari file tujuan itu sendiri; memotong file itu
+    // akan mengosongkan halaman yang sedang dibaca. Karena itu data ditulis ke file sementara di
+    // direktori yang sama, di-fsync, lalu dipindah atomik menimpa tujuan (peta lama tetap
+    // menunjuk inode lama). Jika pindah atomik tidak didukung, data disalin ke heap dulu.
+    public static void save(Maze maze, Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            write(maze, maze.wallData(), maze.terrainData(), tmp);
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.deleteIfExists(tmp);
+            write(maze, heapCopy(maze.wallData()), heapCopy(maze.terrainData()), file);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void write(Maze maze, ByteBuffer wallData, ByteBuffer terrainData, Path file) throws IOException {
+        int n = maze.size();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer walls = ch.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES, n);
+            walls.put(wallData.duplicate());
+            walls.force();
+            MappedByteBuffer terrain = ch.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + (long) n, n);
+            terrain.put(terrainData.duplicate());
+            terrain.force();
+
+            CRC32C crc = new CRC32C();
+            crc.update(wallData.duplicate());
+            crc.update(terrainData.duplicate());
+            writeHeader(ch, maze.getWidth(), maze.getHeight(), maze.getSeed(), maze.getTerrainSeed(),
+                    maze.getMaxWeight(), crc.getValue());
+            ch.force(true);
+        }
+    }
+
+    private static ByteBuffer heapCopy(ByteBuffer data) {
+        ByteBuffer copy = ByteBuffer.allocate(data.remaining());
+        copy.put(data.duplicate()).flip();
+        return copy;
+    }
+
+    public static Maze open(Path file) throws IOException {
+        return open(file, false);
+    }
+
+    // Peta copy-on-write (MapMode.PRIVATE): maze boleh diubah (medan, dinding) tanpa menyentuh
+    // file. PRIVATE butuh channel yang bisa ditulis; file baca-saja disalin ke heap supaya maze
+    // tetap bisa diubah (peta READ_ONLY akan melempar ReadOnlyBufferException saat acak medan).
+    public static Maze open(Path file, boolean verifyChecksum) throws IOException {
+        FileChannel.MapMode mode = FileChannel.MapMode.PRIVATE;
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (AccessDeniedException e) {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            mode = FileChannel.MapMode.READ_ONLY;
+        }
+        try (FileChannel ch = channel) {
+            ByteBuffer header = readHeader(ch, file);
+            int width = header.getInt(8), height = header.getInt(12);
+            long n = (long) width * height;
+            if (n > Integer.MAX_VALUE) {
+                throw new IOException("Labirin " + width + "x" + height + " terlalu besar untuk dimuat; gunakan OutOfCoreSolver");
+            }
+
+            MappedByteBuffer walls = ch.map(mode, HEADER_BYTES, n);
+            MappedByteBuffer terrain = ch.map(mode, HEADER_BYTES + n, n);
+            if (verifyChecksum) {
+                CRC32C crc = new CRC32C();
+                crc.update(walls.duplicate());
+                crc.update(terrain.duplicate());
+                if (crc.getValue() != header.getLong(40)) throw new IOException("Checksum file labirin tidak cocok: " + file);
+            }
+
+            ByteBuffer wallData = mode == FileChannel.MapMode.READ_ONLY ? heapCopy(walls) : walls;
+            ByteBuffer terrainData = mode == FileChannel.MapMode.READ_ONLY ? heapCopy(terrain) : terrain;
+            Maze maze = new Maze(width, height, wallData, terrainData, header.getInt(32));
+            maze.setSeed(header.getLong(16));
+            maze.setTerrainSeed(header.getLong(24));
+            return maze;
+        }
+    }
+
+    // Header yang sudah divalidasi (magic, versi, ukuran file cukup untuk lebar x tinggi sel)
+    static ByteBuffer readHeader(FileChannel ch, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining() && ch.read(header, header.position()) >= 0) { }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt(0) != MAGIC) {
+            throw new IOException("Bukan file labirin: " + file);
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException("Versi file labirin tidak didukung: " + header.getInt(4));
+        }
+        int width = header.getInt(8), height = header.getInt(12);
+        if (width <= 0 || height <= 0 || ch.size() < HEADER_BYTES + 2L * width * height) {
+            throw new IOException("File labirin rusak atau terpotong: " + file);
+        }
+        return header;
+    }
+
+    private static void writeHeader(FileChannel ch, int width, int height, long seed, long terrainSeed,
+                                    int maxWeight, long checksum) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(height)
+                .putLong(seed).putLong(terrainSeed).putInt(maxWeight).putInt(0).putLong(checksum);
+        header.clear();
+        while (header.hasRemaining()) ch.write(header, header.position());
+    }
+
+    // Penulis streaming baris demi baris (mis. dari EllerGenerator): baris dinding harus datang
+    // berurutan; medan (default semua 1, atau dari TerrainGenerator) ditulis saat close().
+    // Memori O(lebar) berapa pun tingginya.
+    public static class RowWriter implements EllerGenerator.RowConsumer, Closeable {
+        private final FileChannel ch;
+        private final int width, height;
+        private final long seed;
+        private final CRC32C crc = new CRC32C();
+        private TerrainGenerator terrain;
+        private long terrainSeed;
+        private int nextRow = 0;
+
+        public RowWriter(Path file, int width, int height, long seed) throws IOException {
+            this.ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+            this.width = width;
+            this.height = height;
+            this.seed = seed;
+        }
+
+        public void setTerrain(TerrainGenerator terrain, long terrainSeed) {
+            this.terrain = terrain;
+            this.terrainSeed = terrainSeed;
+        }
+
+        @Override
+        public void acceptRow(int y, byte[] walls) throws IOException {
+            if (y != nextRow) throw new IOException("Baris harus berurutan: diharapkan " + nextRow + ", dapat " + y);
+            crc.update(walls, 0, width);
+            write(ByteBuffer.wrap(walls, 0, width), HEADER_BYTES + (long) y * width);
+            nextRow++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                if (nextRow != height) throw new IOException("Baru " + nextRow + " dari " + height + " baris ditulis");
+                long base = HEADER_BYTES + (long) width * height;
+                byte[] row = new byte[width];
+                int maxWeight = 1;
+                for (int y = 0; y < height; y++) {
+                    if (terrain != null) terrain.fillRow(terrainSeed, y, width, row, 0);
+                    else if (y == 0) Arrays.fill(row, (byte) 1);
+                    for (byte t : row) maxWeight = Math.max(maxWeight, t & 0xFF);
+                    crc.update(row, 0, width);
+                    write(ByteBuffer.wrap(row), base + (long) y * width);
+                }
+                writeHeader(ch, width, height, seed, terrain != null ? terrainSeed : 0, maxWeight, crc.getValue());
+            } finally {
+                ch.close();
+            }
+        }
+
+        private void write(ByteBuffer data, long position) throws IOException {
+            while (data.hasRemaining()) position += ch.write(data, position);
+        }
+    }
+}
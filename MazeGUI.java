@@ -1,17 +1,60 @@
+import jdk.jfr.Recording;
+
 import javax.swing.*;
 import javax.swing.border.*;
 import javax.swing.table.*;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 public class MazeGUI extends JFrame {
     private MazePanel mazePanel;
     private MazeSolver solver;
     private Timer animationTimer;
     private SoundManager soundManager = new SoundManager();
-
-    private JButton generateBtn, terrainBtn, bfsBtn, dfsBtn, dijkstraBtn, aStarBtn, resetBtn, compareAllBtn;
+    private final PathCache pathCache = new PathCache();
+
+    // Perbandingan berjalan di pool worker, bukan di EDT; maze dibaca bersama (read-only)
+    private static final int WARMUP_MAX_CELLS = 100_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int ANIMATION_TICKS = 150;
+    private static final int MAX_MAZE_SIDE = 10_000;
+    // Cadangan heap untuk GUI di atas yang sudah terpakai (mipmap/layer baru saat zoom atau resize)
+    private static final long GUI_HEAP_RESERVE = 256L << 20;
+    private static final String VIEW_HINT = " | Scroll: zoom, seret: geser, klik dua kali: pas layar";
+    private final ExecutorService comparePool = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), r -> {
+                Thread t = new Thread(r, "maze-compare");
+                t.setDaemon(true);
+                return t;
+            });
+    // Thread pool yang sedang menjalankan solve/perbandingan; pembatalan menginterupsi mereka
+    private final Set<Thread> comparisonThreads = ConcurrentHashMap.newKeySet();
+    private volatile int comparisonId = 0;
+
+    // Opsi di dialog Buka; verifikasi membaca seluruh file, jadi default mati
+    private final JCheckBox verifyOnOpen = new JCheckBox("Cek CRC32C");
+    private JButton generateBtn, terrainBtn, saveBtn, openBtn, bfsBtn, dfsBtn, dijkstraBtn, aStarBtn, dialBtn, biBfsBtn, biAStarBtn, hpaBtn, altBtn, resetBtn, compareAllBtn, cancelBtn, recordBtn;
+    // Rekaman JFR yang sedang berjalan (null jika tidak merekam)
+    private Recording recording;
+    private File recordingFile;
     private JSpinner widthSpinner, heightSpinner;
+    private JComboBox<String> generatorBox;
+    private JTextField seedField;
+    private JComboBox<String> terrainBox;
+    private static final TerrainGenerator[] TERRAINS = {new NoiseTerrain(), new WhiteNoiseTerrain()};
+    // Seed medan diturunkan dari seed labirin, jadi urutan "acak medan" juga bisa diulang
+    private SplittableRandom terrainSeeds;
     private JLabel statsLabel;
     private JTable resultsTable;
     private DefaultTableModel tableModel;
@@ -39,6 +82,8 @@ public class MazeGUI extends JFrame {
     @Override
     public void dispose() {
         soundManager.stopBacksound();
+        comparePool.shutdownNow();
+        if (recording != null) toggleRecording();
         super.dispose();
     }
 
@@ -56,9 +101,9 @@ public class MazeGUI extends JFrame {
         sidePanel.add(titleLabel);
         sidePanel.add(Box.createRigidArea(new Dimension(0, 25)));
 
-        JPanel configContainer = new JPanel(new GridLayout(2, 2, 10, 10));
+        JPanel configContainer = new JPanel(new GridLayout(5, 2, 10, 10));
         configContainer.setOpaque(false);
-        configContainer.setMaximumSize(new Dimension(270, 80));
+        configContainer.setMaximumSize(new Dimension(270, 200));
 
         styleFieldLabel(configContainer, "Lebar:");
         widthSpinner = createCustomSpinner(30);
@@ -68,6 +113,21 @@ public class MazeGUI extends JFrame {
         heightSpinner = createCustomSpinner(25);
         configContainer.add(heightSpinner);
 
+        styleFieldLabel(configContainer, "Generator:");
+        generatorBox = new JComboBox<>();
+        for (GenerationStrategy g : MazeGenerator.STRATEGIES) generatorBox.addItem(g.getName());
+        configContainer.add(generatorBox);
+
+        styleFieldLabel(configContainer, "Seed (opsional):");
+        seedField = new JTextField();
+        seedField.setToolTipText("Kosongkan untuk seed acak");
+        configContainer.add(seedField);
+
+        styleFieldLabel(configContainer, "Medan:");
+        terrainBox = new JComboBox<>();
+        for (TerrainGenerator t : TERRAINS) terrainBox.addItem(t.getName());
+        configContainer.add(terrainBox);
+
         sidePanel.add(configContainer);
         sidePanel.add(Box.createRigidArea(new Dimension(0, 20)));
 
@@ -79,25 +139,49 @@ public class MazeGUI extends JFrame {
         terrainBtn = createStyledButton("🌍 ACAK MEDAN", new Color(230, 230, 230), Color.BLACK);
         terrainBtn.addActionListener(e -> randomizeTerrain());
         sidePanel.add(terrainBtn);
+        sidePanel.add(Box.createRigidArea(new Dimension(0, 8)));
+
+        JPanel fileGrid = new JPanel(new GridLayout(1, 2, 8, 8));
+        fileGrid.setOpaque(false);
+        fileGrid.setMaximumSize(new Dimension(270, 40));
+        saveBtn = createStyledButton("💾 SIMPAN", new Color(230, 230, 230), Color.BLACK);
+        openBtn = createStyledButton("📂 BUKA", new Color(230, 230, 230), Color.BLACK);
+        saveBtn.addActionListener(e -> saveMaze());
+        openBtn.addActionListener(e -> openMaze());
+        fileGrid.add(saveBtn); fileGrid.add(openBtn);
+        sidePanel.add(fileGrid);
 
         sidePanel.add(Box.createRigidArea(new Dimension(0, 30)));
 
-        JPanel algoGrid = new JPanel(new GridLayout(2, 2, 8, 8));
+        JPanel algoGrid = new JPanel(new GridLayout(5, 2, 8, 8));
         algoGrid.setOpaque(false);
-        algoGrid.setMaximumSize(new Dimension(270, 90));
+        algoGrid.setMaximumSize(new Dimension(270, 225));
 
         bfsBtn = createStyledButton("BFS", Color.WHITE, Color.BLACK);
         dfsBtn = createStyledButton("DFS", Color.WHITE, Color.BLACK);
         dijkstraBtn = createStyledButton("DIJKSTRA", Color.WHITE, Color.BLACK);
         aStarBtn = createStyledButton("A*", Color.WHITE, Color.BLACK);
+        dialBtn = createStyledButton("DIAL", Color.WHITE, Color.BLACK);
+        biBfsBtn = createStyledButton("BI-BFS", Color.WHITE, Color.BLACK);
+        biAStarBtn = createStyledButton("BI-A*", Color.WHITE, Color.BLACK);
+        hpaBtn = createStyledButton("HPA*", Color.WHITE, Color.BLACK);
+        altBtn = createStyledButton("ALT", Color.WHITE, Color.BLACK);
 
         bfsBtn.addActionListener(e -> solveMaze("BFS"));
         dfsBtn.addActionListener(e -> solveMaze("DFS"));
         dijkstraBtn.addActionListener(e -> solveMaze("Dijkstra"));
         aStarBtn.addActionListener(e -> solveMaze("A*"));
+        dialBtn.addActionListener(e -> solveMaze("Dial"));
+        biBfsBtn.addActionListener(e -> solveMaze("Bi-BFS"));
+        biAStarBtn.addActionListener(e -> solveMaze("Bi-A*"));
+        hpaBtn.addActionListener(e -> solveMaze("HPA*"));
+        altBtn.addActionListener(e -> solveMaze("ALT"));
 
         algoGrid.add(bfsBtn); algoGrid.add(dfsBtn);
         algoGrid.add(dijkstraBtn); algoGrid.add(aStarBtn);
+        algoGrid.add(dialBtn); algoGrid.add(biBfsBtn);
+        algoGrid.add(biAStarBtn); algoGrid.add(hpaBtn);
+        algoGrid.add(altBtn);
         sidePanel.add(algoGrid);
 
         sidePanel.add(Box.createRigidArea(new Dimension(0, 15)));
@@ -105,6 +189,17 @@ public class MazeGUI extends JFrame {
         compareAllBtn = createStyledButton("📊 BANDINGKAN SEMUA", new Color(180, 40, 40), Color.WHITE);
         compareAllBtn.addActionListener(e -> runComparison());
         sidePanel.add(compareAllBtn);
+        sidePanel.add(Box.createRigidArea(new Dimension(0, 8)));
+
+        cancelBtn = createStyledButton("⛔ BATALKAN", new Color(70, 70, 80), Color.WHITE);
+        cancelBtn.addActionListener(e -> cancelComparison());
+        cancelBtn.setEnabled(false);
+        sidePanel.add(cancelBtn);
+        sidePanel.add(Box.createRigidArea(new Dimension(0, 8)));
+
+        recordBtn = createStyledButton("⏺ REKAM JFR", new Color(70, 70, 80), Color.WHITE);
+        recordBtn.addActionListener(e -> toggleRecording());
+        sidePanel.add(recordBtn);
 
         sidePanel.add(Box.createRigidArea(new Dimension(0, 25)));
 
@@ -125,32 +220,41 @@ public class MazeGUI extends JFrame {
         add(sidePanel, BorderLayout.WEST);
     }
 
+    // Solve (termasuk praproses HPA*/ALT) berjalan di pool worker seperti perbandingan, jadi
+    // viewport tetap bisa di-zoom/geser selama maze besar dicari; tombol Batalkan menghentikannya
     private void solveMaze(String algorithm) {
         if (animationTimer != null) animationTimer.stop();
         mazePanel.resetAnimation();
 
-        long startTime = System.nanoTime();
-        List<Cell> path;
         Cell start = mazePanel.getStartCell();
         Cell end = mazePanel.getEndCell();
+        MazeSolver shared = solver;
+        int id = ++comparisonId;
+        setComparisonRunning(true);
+        statsLabel.setText("Mencari jalur dengan " + algorithm + "...");
+        submitSolve(() -> cachedSolve(shared, algorithm, start, end, 0), (result, failure) -> {
+            setComparisonRunning(false);
+            if (failure != null && id == comparisonId) statsLabel.setText(algorithm + " gagal: " + failure);
+            else if (id != comparisonId || result == null) statsLabel.setText("Solve dibatalkan.");
+            else showSolveResult(algorithm, result);
+        });
+    }
 
-        if(algorithm.equals("BFS")) path = solver.solveBFS(start, end);
-        else if(algorithm.equals("DFS")) path = solver.solveDFS(start, end);
-        else if(algorithm.equals("Dijkstra")) path = solver.solveDijkstra(start, end);
-        else path = solver.solveAStar(start, end);
-
-        long endTime = System.nanoTime();
-        double duration = (endTime - startTime) / 1_000_000.0;
-        if (path.isEmpty()) { statsLabel.setText("Tidak ada jalan!"); return; }
+    private void showSolveResult(String algorithm, PathCache.Entry result) {
+        List<Cell> path = result.path;
+        if (path.isEmpty()) { statsLabel.setText("Tidak ada jalan!" + cacheStatus()); return; }
 
-        int totalCost = path.stream().mapToInt(c -> c.weight).sum();
-        statsLabel.setText(algorithm + " | Waktu: " + String.format("%.2f", duration) + "ms | Energi: " + totalCost);
-        updateTableRow(algorithm, path.size(), totalCost, duration);
+        int totalCost = path.stream().mapToInt(Cell::getWeight).sum();
+        statsLabel.setText(algorithm + " | Waktu: " + String.format("%.2f", result.millis) + "ms | Energi: " + totalCost
+                + " | Node: " + result.stats.expanded + " | Peak: " + result.stats.frontierPeak + cacheStatus());
+        updateTableRow(algorithm, path.size(), totalCost, result.stats, result.millis);
 
         mazePanel.setPath(path);
 
+        // Jalur panjang maju beberapa sel per tick agar animasi selesai dalam ~ANIMATION_TICKS frame
+        int stepsPerTick = Math.max(1, path.size() / ANIMATION_TICKS);
         animationTimer = new Timer(20, e -> {
-            mazePanel.incrementPathIndex();
+            mazePanel.advancePath(stepsPerTick);
             if (mazePanel.getPathDrawLimit() >= path.size()) {
                 animationTimer.stop();
                 soundManager.playSFX("resources/victory.wav"); // Pastikan file tersedia
@@ -161,7 +265,8 @@ public class MazeGUI extends JFrame {
     }
 
     private void showVictoryDialog(String algo, int steps, int cost) {
-        LeaderboardManager.saveScore(algo, steps, cost);
+        Maze maze = mazePanel.getMaze();
+        LeaderboardManager.saveScore(algo, steps, cost, maze.getSeed(), maze.getTerrainSeed());
 
         JDialog winDialog = new JDialog(this, "Mission Complete!", true);
         winDialog.setSize(500, 500);
@@ -201,7 +306,7 @@ public class MazeGUI extends JFrame {
         List<String[]> scores = LeaderboardManager.getTopScores();
         for (int i = 0; i < Math.min(3, scores.size()); i++) {
             String[] s = scores.get(i);
-            sb.append((i+1) + ". " + s[0] + " - Cost: " + s[2] + "\n");
+            sb.append((i+1) + ". " + s[0] + " - Cost: " + s[2] + (s.length > 3 ? " (seed " + s[3] + ")" : "") + "\n");
         }
         JTextArea lbText = new JTextArea(sb.toString());
         lbText.setOpaque(false); lbText.setForeground(Color.CYAN);
@@ -228,15 +333,18 @@ public class MazeGUI extends JFrame {
         return btn;
     }
 
+    // Labirin besar ditampilkan lewat viewport zoom/geser, jadi batasnya bukan lagi ukuran layar
     private JSpinner createCustomSpinner(int val) {
-        JSpinner s = new JSpinner(new SpinnerNumberModel(val, 5, 100, 1));
+        JSpinner s = new JSpinner(new SpinnerNumberModel(val, 5, MAX_MAZE_SIDE, 1));
         return s;
     }
 
     private void createStyledTable() {
-        String[] columns = {"Algo", "Langkah", "Cost", "Waktu"};
+        String[] columns = {"Algo", "Langkah", "Cost", "Node", "Gen", "Peak", "Push", "Pop", "DecKey", "Alok (KB)", "Waktu"};
         tableModel = new DefaultTableModel(columns, 0);
         resultsTable = new JTable(tableModel);
+        // Kolom statistik terlalu banyak untuk panel 270px; geser horizontal
+        resultsTable.setAutoResizeMode(JTable.AUTO_RESIZE_OFF);
         resultsTable.setBackground(new Color(40, 40, 50));
         resultsTable.setForeground(Color.WHITE);
     }
@@ -259,35 +367,207 @@ public class MazeGUI extends JFrame {
     private void generateMaze() {
         int w = (int) widthSpinner.getValue();
         int h = (int) heightSpinner.getValue();
-        mazePanel.setMaze(new MazeGenerator(w, h).generateMaze());
-        solver = new MazeSolver(mazePanel.getGrid());
+        GenerationStrategy strategy = MazeGenerator.strategyByName((String) generatorBox.getSelectedItem());
+        MazeGenerator generator = new MazeGenerator(w, h, strategy, readSeed());
+        mazePanel.setMaze(generator.generateMaze());
+        terrainSeeds = new SplittableRandom(generator.getSeed());
+        solver = new MazeSolver(mazePanel.getMaze());
         toggleButtons(true);
         tableModel.setRowCount(0);
+        statsLabel.setText("Labirin " + w + "x" + h + " (" + strategy.getName() + ") | "
+                + String.format("%.2f", generator.getLastCellsPerSecond() / 1e6) + " juta sel/s | Seed: " + generator.getSeed()
+                + solveLimitNote(mazePanel.getMaze()) + VIEW_HINT);
+    }
+
+    private void saveMaze() {
+        if (mazePanel.getMaze() == null) return;
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("labirin-" + mazePanel.getMaze().getSeed() + ".maze"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            MazeFile.save(mazePanel.getMaze(), chooser.getSelectedFile().toPath());
+            statsLabel.setText("Labirin disimpan ke " + chooser.getSelectedFile().getName());
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Gagal menyimpan: " + ex.getMessage(), "Simpan", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // File dipetakan langsung ke memori; solver berjalan di atas buffer file tanpa menyalin.
+    // Cek CRC32C hanya kalau dicentang: itu menyentuh setiap halaman file sebelum paint pertama.
+    private void openMaze() {
+        JFileChooser chooser = new JFileChooser();
+        verifyOnOpen.setToolTipText("Baca seluruh file untuk memeriksa checksum (lambat untuk file besar)");
+        chooser.setAccessory(verifyOnOpen);
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            Maze maze = MazeFile.open(chooser.getSelectedFile().toPath(), verifyOnOpen.isSelected());
+            resetAnimation();
+            mazePanel.setMaze(maze);
+            solver = new MazeSolver(maze);
+            terrainSeeds = new SplittableRandom(maze.getSeed());
+            toggleButtons(true);
+            tableModel.setRowCount(0);
+            statsLabel.setText("Dibuka: " + chooser.getSelectedFile().getName() + " (" + maze.getWidth() + "x"
+                    + maze.getHeight() + ")" + (verifyOnOpen.isSelected() ? " | CRC OK" : "") + " | Seed: " + maze.getSeed()
+                    + solveLimitNote(maze) + VIEW_HINT);
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Gagal membuka: " + ex.getMessage(), "Buka", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    // Rekam event generasi/solve/medan/paint bersama GC dan JIT; buka hasilnya di JDK Mission Control
+    private void toggleRecording() {
+        if (recording != null) {
+            recording.stop();
+            recording.close();
+            recording = null;
+            recordBtn.setText("⏺ REKAM JFR");
+            statsLabel.setText("Rekaman JFR disimpan ke " + recordingFile.getName());
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("rekaman-" + System.currentTimeMillis() + ".jfr"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            recordingFile = chooser.getSelectedFile();
+            recording = MazeEvents.startRecording(recordingFile.toPath());
+            // EXIT_ON_CLOSE keluar lewat System.exit tanpa dispose(); JFR yang menulis file saat JVM keluar
+            recording.setDumpOnExit(true);
+            recordBtn.setText("⏹ STOP JFR");
+            statsLabel.setText("Merekam JFR ke " + recordingFile.getName() + "...");
+        } catch (IOException | IllegalStateException | SecurityException ex) {
+            JOptionPane.showMessageDialog(this, "Gagal merekam: " + ex.getMessage(), "JFR", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private long readSeed() {
+        String text = seedField.getText().trim();
+        if (!text.isEmpty()) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return text.hashCode();
+            }
+        }
+        return new SplittableRandom().nextLong();
     }
 
     private void runComparison() {
-        if (mazePanel.getGrid() == null) return;
+        if (mazePanel.getMaze() == null) return;
         tableModel.setRowCount(0);
-        String[] algos = {"BFS", "DFS", "Dijkstra", "A*"};
         Cell start = mazePanel.getStartCell();
         Cell end = mazePanel.getEndCell();
-        for (String algo : algos) {
-            long st = System.nanoTime();
-            List<Cell> path = algo.equals("BFS") ? solver.solveBFS(start, end) :
-                    algo.equals("DFS") ? solver.solveDFS(start, end) :
-                            algo.equals("Dijkstra") ? solver.solveDijkstra(start, end) :
-                                    solver.solveAStar(start, end);
-            double d = (System.nanoTime() - st) / 1_000_000.0;
-            if (!path.isEmpty()) {
-                int c = path.stream().mapToInt(cl -> cl.weight).sum();
-                tableModel.addRow(new Object[]{algo, path.size(), c, String.format("%.2f", d)});
+        MazeSolver shared = solver;
+        int warmups = shared.getMaze().size() <= WARMUP_MAX_CELLS ? WARMUP_RUNS : 0;
+        int id = ++comparisonId;
+        AtomicInteger remaining = new AtomicInteger(MazeSolver.ALGORITHMS.length);
+        long wallStart = System.nanoTime();
+
+        setComparisonRunning(true);
+        statsLabel.setText("Membandingkan " + MazeSolver.ALGORITHMS.length + " algoritma...");
+
+        AtomicInteger failed = new AtomicInteger();
+        for (String algo : MazeSolver.ALGORITHMS) {
+            // Tugas yang belum mulai saat dibatalkan selesai tanpa solve
+            submitSolve(() -> id == comparisonId ? cachedSolve(shared, algo, start, end, warmups) : null,
+                    (result, failure) -> finishComparisonTask(id, algo, result, failure, remaining, failed, wallStart));
+        }
+    }
+
+    // Jalankan satu solve di pool worker dan catat thread-nya agar bisa diinterupsi. done dipanggil
+    // di EDT dari finally, jadi setiap tugas selalu melapor walau solve melempar exception.
+    private void submitSolve(Supplier<PathCache.Entry> work, BiConsumer<PathCache.Entry, Throwable> done) {
+        comparePool.execute(() -> {
+            PathCache.Entry result = null;
+            Throwable failure = null;
+            comparisonThreads.add(Thread.currentThread());
+            try {
+                result = work.get();
+            } catch (Throwable t) {
+                failure = t;
+            } finally {
+                comparisonThreads.remove(Thread.currentThread());
+                PathCache.Entry r = result;
+                Throwable f = failure;
+                SwingUtilities.invokeLater(() -> done.accept(r, f));
             }
+        });
+    }
+
+    // Dipanggil di EDT per tugas. Tombol yang mengubah maze baru aktif lagi setelah tugas terakhir
+    // benar-benar selesai, termasuk setelah dibatalkan, karena sampai saat itu worker masih membaca maze
+    private void finishComparisonTask(int id, String algo, PathCache.Entry result, Throwable failure,
+                                      AtomicInteger remaining, AtomicInteger failed, long wallStart) {
+        if (failure != null) failed.incrementAndGet();
+        if (id == comparisonId && result != null && !result.path.isEmpty()) {
+            int c = result.path.stream().mapToInt(Cell::getWeight).sum();
+            updateTableRow(algo, result.path.size(), c, result.stats, result.millis);
+        }
+        if (remaining.decrementAndGet() > 0) return;
+        if (id != comparisonId) {
+            statsLabel.setText("Perbandingan dibatalkan.");
+        } else {
+            double total = (System.nanoTime() - wallStart) / 1_000_000.0;
+            String errors = failed.get() > 0 ? " | " + failed.get() + " algoritma gagal" : "";
+            statsLabel.setText("Perbandingan selesai | Total: " + String.format("%.2f", total) + "ms" + errors + cacheStatus());
         }
+        setComparisonRunning(false);
+    }
+
+    // Query yang sama pada revisi maze yang sama cukup diambil dari cache. Saat miss, labirin
+    // kecil dipanaskan dulu (warmups) karena selesai sebelum JIT panas. Null jika diinterupsi.
+    private PathCache.Entry cachedSolve(MazeSolver s, String algo, Cell start, Cell end, int warmups) {
+        Maze maze = s.getMaze();
+        PathCache.Entry cached = pathCache.get(maze, algo, start, end);
+        if (cached != null) return cached;
+
+        s.prepare(algo);
+        for (int i = 0; i < warmups && !Thread.currentThread().isInterrupted(); i++) {
+            s.solve(algo, start, end);
+        }
+        if (Thread.currentThread().isInterrupted()) return null;
+
+        long revision = maze.getRevision();
+        long st = System.nanoTime();
+        SearchResult r = s.search(algo, start, end);
+        if (Thread.currentThread().isInterrupted()) return null;
+        double d = (System.nanoTime() - st) / 1_000_000.0;
+        PathCache.Entry result = new PathCache.Entry(r.path, r.stats, d);
+        pathCache.put(maze, revision, algo, start, end, result);
+        return result;
+    }
+
+    private String cacheStatus() {
+        return " | Cache: " + pathCache.getHits() + " hit / " + pathCache.getMisses() + " miss";
+    }
+
+    // Solver mengecek interupsi tiap beberapa ribu pop, jadi solve yang sedang berjalan berhenti
+    // cepat; callback tugas terakhir yang mengembalikan tombol setelah semuanya selesai
+    private void cancelComparison() {
+        comparisonId++;
+        for (Thread t : comparisonThreads) t.interrupt();
+        cancelBtn.setEnabled(false);
+        statsLabel.setText("Membatalkan, menunggu solve yang sedang berjalan...");
+    }
+
+    private void setComparisonRunning(boolean running) {
+        toggleButtons(!running);
+        generateBtn.setEnabled(!running);
+        generatorBox.setEnabled(!running);
+        openBtn.setEnabled(!running);
+        cancelBtn.setEnabled(running);
     }
 
     private void randomizeTerrain() {
-        if (mazePanel.getGrid() == null) return;
-        for (Cell[] row : mazePanel.getGrid()) for (Cell c : row) c.setRandomTerrain();
+        if (mazePanel.getMaze() == null) return;
+        long terrainSeed = terrainSeeds.nextLong();
+        TerrainGenerator terrain = TERRAINS[terrainBox.getSelectedIndex()];
+        long st = System.nanoTime();
+        mazePanel.getMaze().applyTerrain(terrain, terrainSeed);
+        double ms = (System.nanoTime() - st) / 1_000_000.0;
+        solver.mazeChanged();
+        statsLabel.setText("Medan " + terrain.getName() + " (" + String.format("%.1f", ms) + "ms) | Seed labirin: "
+                + mazePanel.getMaze().getSeed() + " | Seed medan: " + terrainSeed);
         mazePanel.repaint(); tableModel.setRowCount(0);
     }
 
@@ -296,13 +576,58 @@ public class MazeGUI extends JFrame {
         mazePanel.resetAnimation();
     }
 
-    private void updateTableRow(String a, int s, int c, double t) {
-        tableModel.addRow(new Object[]{a, s, c, String.format("%.2f", t)});
+    private void updateTableRow(String a, int s, int c, SearchStats st, double t) {
+        String alloc = st.allocatedBytes < 0 ? "-" : String.valueOf(st.allocatedBytes / 1024);
+        tableModel.addRow(new Object[]{a, s, c, st.expanded, st.generated, st.frontierPeak, st.pushes, st.pops,
+                st.decreaseKeys, alloc, String.format("%.2f", t)});
     }
 
     private void toggleButtons(boolean b) {
-        JButton[] btns = {terrainBtn, bfsBtn, dfsBtn, dijkstraBtn, aStarBtn, resetBtn, compareAllBtn};
+        JButton[] btns = {terrainBtn, saveBtn, resetBtn};
         for(JButton btn : btns) btn.setEnabled(b);
+        // Maze sampai MAX_MAZE_SIDE^2 bisa dibuat dan dilihat, tapi solve butuh ~90 byte heap
+        // per sel per thread worker; yang tidak muat dinonaktifkan daripada OutOfMemoryError di tengah jalan
+        Maze maze = mazePanel.getMaze();
+        long free = b && maze != null ? freeHeap(maze) : 0;
+        boolean solvable = b && maze != null && heapNeeded(maze, 1) <= free;
+        for (JButton btn : new JButton[]{bfsBtn, dfsBtn, dijkstraBtn, aStarBtn, dialBtn, biBfsBtn, biAStarBtn, hpaBtn, altBtn}) {
+            btn.setEnabled(solvable);
+        }
+        compareAllBtn.setEnabled(b && maze != null && heapNeeded(maze, compareContexts()) <= free);
+    }
+
+    // Worker yang bisa solve bersamaan saat perbandingan, masing-masing dengan satu context
+    private static int compareContexts() {
+        return Math.min(Runtime.getRuntime().availableProcessors(), MazeSolver.ALGORITHMS.length);
+    }
+
+    private static long heapNeeded(Maze maze, int threads) {
+        return MazeSolver.heapBytesNeeded(maze.size(), threads) + GUI_HEAP_RESERVE;
+    }
+
+    // Heap bebas sungguhan: sisa sampai -Xmx, ditambah context per thread yang akan dipakai ulang
+    // atau diganti (dilepas dulu) oleh solve berikutnya. Heap terpakai bisa masih berisi sampah
+    // (maze/mipmap lama), jadi GC dipaksa sekali sebelum menyimpulkan perbandingan tidak muat.
+    private static long freeHeap(Maze maze) {
+        long free = measuredFreeHeap();
+        if (free >= heapNeeded(maze, compareContexts())) return free;
+        System.gc();
+        return measuredFreeHeap();
+    }
+
+    private static long measuredFreeHeap() {
+        Runtime rt = Runtime.getRuntime();
+        return rt.maxMemory() - (rt.totalMemory() - rt.freeMemory()) + SearchContext.perThreadBytes();
+    }
+
+    // Catatan status bar kalau solve/perbandingan dinonaktifkan karena heap tidak cukup
+    private String solveLimitNote(Maze maze) {
+        long free = freeHeap(maze);
+        if (heapNeeded(maze, compareContexts()) <= free) return "";
+        boolean solvable = heapNeeded(maze, 1) <= free;
+        long need = heapNeeded(maze, solvable ? compareContexts() : 1);
+        return " | " + (solvable ? "Perbandingan" : "Solve") + " dinonaktifkan: butuh ~" + (need >> 20)
+                + " MB heap, bebas ~" + (free >> 20) + " MB (-Xmx)";
     }
 
     private void createCenterPanel() {
@@ -1,106 +1,87 @@
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
-import java.util.Stack;
+import java.util.SplittableRandom;
 
+// Mesin pembuat labirin: strategi (algoritma) bisa diganti, lalu loop ditambahkan agar ada
+// lebih dari satu rute. Throughput (sel/detik) generasi terakhir dicatat untuk laporan.
 public class MazeGenerator {
+    public static final GenerationStrategy[] STRATEGIES = {
+            new BacktrackerStrategy(), new KruskalStrategy(), new PrimStrategy(),
+            new WilsonStrategy(), new BinaryTreeStrategy()
+    };
+
     private int width;
     private int height;
-    private Cell[][] grid;
-    private Random random = new Random();
+    private GenerationStrategy strategy = STRATEGIES[0];
+    private final long seed;
+    private double lastCellsPerSecond;
 
     public MazeGenerator(int width, int height) {
-        this.width = width;
-        this.height = height;
+        this(width, height, STRATEGIES[0]);
     }
 
-    public Cell[][] generateMaze() {
-        grid = new Cell[width][height];
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                grid[x][y] = new Cell(x, y);
-            }
-        }
-
-        Stack<Cell> stack = new Stack<>();
-        Cell current = grid[0][0];
-        current.setVisited(true);
-        stack.push(current);
-
-        while (!stack.isEmpty()) {
-            current = stack.peek();
-            Cell next = getUnvisitedNeighbor(current);
-
-            if (next != null) {
-                next.setVisited(true);
-                removeWalls(current, next);
-                stack.push(next);
-            } else {
-                stack.pop();
-            }
-        }
-
-        addLoops(10);
-        resetVisitedStatus();
-        return grid;
+    public MazeGenerator(int width, int height, GenerationStrategy strategy) {
+        this(width, height, strategy, new SplittableRandom().nextLong());
     }
 
-    private void addLoops(int percentage) {
-        int totalCells = width * height;
-        int wallsToRemove = (totalCells * percentage) / 100;
-
-        for (int i = 0; i < wallsToRemove; i++) {
-            int x = random.nextInt(width - 1);
-            int y = random.nextInt(height - 1);
-
-            if (random.nextBoolean()) {
-                grid[x][y].walls[1] = false;
-                grid[x+1][y].walls[3] = false;
-            } else {
-                grid[x][y].walls[2] = false;
-                grid[x][y+1].walls[0] = false;
-            }
-        }
+    // Seed yang sama + ukuran + strategi yang sama = labirin yang sama
+    public MazeGenerator(int width, int height, GenerationStrategy strategy, long seed) {
+        this.width = width;
+        this.height = height;
+        this.strategy = strategy;
+        this.seed = seed;
     }
 
-    private Cell getUnvisitedNeighbor(Cell cell) {
-        List<Cell> neighbors = new ArrayList<>();
-        int x = cell.x;
-        int y = cell.y;
-
-        if (y > 0 && !grid[x][y - 1].isVisited()) neighbors.add(grid[x][y - 1]);
-        if (x < width - 1 && !grid[x + 1][y].isVisited()) neighbors.add(grid[x + 1][y]);
-        if (y < height - 1 && !grid[x][y + 1].isVisited()) neighbors.add(grid[x][y + 1]);
-        if (x > 0 && !grid[x - 1][y].isVisited()) neighbors.add(grid[x - 1][y]);
-
-        if (neighbors.size() > 0) {
-            return neighbors.get(random.nextInt(neighbors.size()));
-        }
-        return null;
+    // Stream RNG ke-index (baris/tile) dari satu seed. Konstanta golden ratio menyebar indeks
+    // berurutan ke seed yang berjauhan; SplittableRandom mencampurnya lagi di konstruktor.
+    public static SplittableRandom stream(long seed, long index) {
+        return new SplittableRandom(seed + (index + 1) * 0x9E3779B97F4A7C15L);
     }
 
-    private void removeWalls(Cell a, Cell b) {
-        int xDiff = a.x - b.x;
-        int yDiff = a.y - b.y;
+    public long getSeed() { return seed; }
 
-        if (xDiff == 1) {
-            a.walls[3] = false; b.walls[1] = false;
-        } else if (xDiff == -1) {
-            a.walls[1] = false; b.walls[3] = false;
+    public static GenerationStrategy strategyByName(String name) {
+        for (GenerationStrategy s : STRATEGIES) {
+            if (s.getName().equalsIgnoreCase(name)) return s;
         }
+        throw new IllegalArgumentException("Algoritma generator tidak dikenal: " + name);
+    }
 
-        if (yDiff == 1) {
-            a.walls[0] = false; b.walls[2] = false;
-        } else if (yDiff == -1) {
-            a.walls[2] = false; b.walls[0] = false;
+    public GenerationStrategy getStrategy() { return strategy; }
+    public void setStrategy(GenerationStrategy strategy) { this.strategy = strategy; }
+
+    public double getLastCellsPerSecond() { return lastCellsPerSecond; }
+
+    public Maze generateMaze() {
+        MazeEvents.Generate event = new MazeEvents.Generate();
+        event.begin();
+        long start = System.nanoTime();
+        Maze maze = new Maze(width, height);
+        maze.setSeed(seed);
+        SplittableRandom random = new SplittableRandom(seed);
+        strategy.carve(maze, random);
+        addLoops(maze, 10, random);
+        double secs = (System.nanoTime() - start) / 1e9;
+        lastCellsPerSecond = maze.size() / Math.max(secs, 1e-9);
+        event.end();
+        if (event.shouldCommit()) {
+            event.width = width;
+            event.height = height;
+            event.generator = strategy.getName();
+            event.seed = seed;
+            event.threads = 1;
+            event.commit();
         }
+        return maze;
     }
 
-    private void resetVisitedStatus() {
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                grid[x][y].setVisited(false);
-            }
+    static void addLoops(Maze maze, int percentage, SplittableRandom random) {
+        int width = maze.getWidth(), height = maze.getHeight();
+        if (width < 2 || height < 2) return;
+        int wallsToRemove = (width * height * percentage) / 100;
+
+        for (int i = 0; i < wallsToRemove; i++) {
+            int x = random.nextInt(width - 1);
+            int y = random.nextInt(height - 1);
+            maze.removeWall(maze.index(x, y), random.nextBoolean() ? Maze.RIGHT : Maze.BOTTOM);
         }
     }
-}
\ No newline at end of file
+}
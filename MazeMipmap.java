@@ -0,0 +1,131 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Piramida warna untuk tampilan jauh (level of detail). Level k: satu piksel = rata-rata
+// blok 2^k x 2^k sel. Level 0 dan 1 dibaca langsung dari maze saat render (paling banyak
+// 4 sel per piksel); level 2 ke atas dibangun sekali saat pertama dibutuhkan, paralel per
+// baris, dan hanya berlaku untuk satu revisi maze. Memori ~1/12 int per sel, di bawah
+// data maze sendiri (2 byte per sel).
+public class MazeMipmap {
+    private static final int FIRST_STORED = 2;
+
+    private final Maze maze;
+    private final long revision;
+    // Warna per (bobot << 4 | bit dinding), kanal R/G/B direnggangkan 20 bit supaya jumlah
+    // satu blok bisa diakumulasi dalam satu long tanpa memisah kanal per sel
+    private final long[] spread = new long[256 << 4];
+    private final int maxLevel;
+    private int[][] stored;
+
+    // palette: warna RGB per bobot medan (0..255), sudah dicampur dengan latar
+    public MazeMipmap(Maze maze, int[] palette) {
+        this.maze = maze;
+        this.revision = maze.getRevision();
+        for (int i = 0; i < spread.length; i++) spread[i] = spread(shade(palette[i >> 4], Integer.bitCount(i & 0x0F)));
+        int longest = Math.max(maze.getWidth(), maze.getHeight());
+        this.maxLevel = 32 - Integer.numberOfLeadingZeros(Math.max(1, longest - 1));
+    }
+
+    public boolean isCurrent(Maze maze) {
+        return maze == this.maze && maze.getRevision() == revision;
+    }
+
+    // Level dengan satu piksel layar kira-kira satu piksel level (scale = piksel per sel)
+    public int levelFor(double scale) {
+        if (scale >= 1) return 0;
+        return Math.min(maxLevel, Math.getExponent(1 / scale));
+    }
+
+    // Isi out (outW x outH, RGB) untuk viewport: sudut sel (0,0) di layar pada (originX, originY)
+    public void render(int[] out, int outW, int outH, double originX, double originY, double scale, int background) {
+        int k = levelFor(scale);
+        if (k >= FIRST_STORED) ensureStored();
+        int w = maze.getWidth(), h = maze.getHeight();
+        IntStream.range(0, outH).parallel().forEach(py -> {
+            int row = py * outW;
+            double cy = (py + 0.5 - originY) / scale;
+            if (cy < 0 || cy >= h) {
+                Arrays.fill(out, row, row + outW, background);
+                return;
+            }
+            int ly = (int) cy >> k;
+            for (int px = 0; px < outW; px++) {
+                double cx = (px + 0.5 - originX) / scale;
+                out[row + px] = cx < 0 || cx >= w ? background : sample(k, (int) cx >> k, ly);
+            }
+        });
+    }
+
+    private int sample(int k, int lx, int ly) {
+        if (k == 0) return cellColor(maze.index(lx, ly));
+        if (k == 1) return average(2 * lx, 2 * ly, 2);
+        int[] level = stored[k - FIRST_STORED];
+        return level[ly * levelWidth(k) + lx];
+    }
+
+    private int levelWidth(int k) { return ((maze.getWidth() - 1) >> k) + 1; }
+    private int levelHeight(int k) { return ((maze.getHeight() - 1) >> k) + 1; }
+
+    private synchronized void ensureStored() {
+        if (stored != null) return;
+        int[][] levels = new int[Math.max(0, maxLevel - FIRST_STORED + 1)][];
+        for (int k = FIRST_STORED; k <= maxLevel; k++) {
+            int lw = levelWidth(k), lh = levelHeight(k);
+            int[] level = new int[lw * lh];
+            int[] prev = k == FIRST_STORED ? null : levels[k - 1 - FIRST_STORED];
+            int pw = k == FIRST_STORED ? 0 : levelWidth(k - 1), ph = k == FIRST_STORED ? 0 : levelHeight(k - 1);
+            int kk = k;
+            IntStream.range(0, lh).parallel().forEach(ly -> {
+                for (int lx = 0; lx < lw; lx++) {
+                    level[ly * lw + lx] = prev == null
+                            ? average(lx << kk, ly << kk, 1 << kk)
+                            : averagePixels(prev, pw, ph, 2 * lx, 2 * ly);
+                }
+            });
+            levels[k - FIRST_STORED] = level;
+        }
+        stored = levels;
+    }
+
+    // Rata-rata warna blok size x size sel mulai (x0, y0), dipotong di tepi maze
+    private int average(int x0, int y0, int size) {
+        int x1 = Math.min(maze.getWidth(), x0 + size), y1 = Math.min(maze.getHeight(), y0 + size);
+        long sum = 0;
+        for (int y = y0; y < y1; y++) {
+            for (int i = maze.index(x0, y), end = i + (x1 - x0); i < end; i++) sum += spread[key(i)];
+        }
+        return packAverage(sum, (x1 - x0) * (y1 - y0));
+    }
+
+    private static int averagePixels(int[] level, int lw, int lh, int x0, int y0) {
+        long sum = 0;
+        int n = 0;
+        for (int y = y0; y < Math.min(lh, y0 + 2); y++) {
+            for (int x = x0; x < Math.min(lw, x0 + 2); x++, n++) sum += spread(level[y * lw + x]);
+        }
+        return packAverage(sum, n);
+    }
+
+    private int cellColor(int i) {
+        return packAverage(spread[key(i)], 1);
+    }
+
+    private int key(int i) {
+        return maze.getWeight(i) << 4 | maze.wallBits(i);
+    }
+
+    private static long spread(int rgb) {
+        return (rgb & 0xFF0000L) << 24 | (rgb & 0xFF00L) << 12 | rgb & 0xFFL;
+    }
+
+    private static int packAverage(long sum, int n) {
+        int r = (int) ((sum >> 40 & 0xFFFFF) / n), g = (int) ((sum >> 20 & 0xFFFFF) / n), b = (int) ((sum & 0xFFFFF) / n);
+        return r << 16 | g << 8 | b;
+    }
+
+    // Warna medan digelapkan sesuai jumlah dinding sel (4 dinding = setengah terang)
+    private static int shade(int rgb, int walls) {
+        int f = 8 - walls;
+        return (rgb >> 16 & 0xFF) * f / 8 << 16 | (rgb >> 8 & 0xFF) * f / 8 << 8 | (rgb & 0xFF) * f / 8;
+    }
+}
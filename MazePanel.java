@@ -1,10 +1,15 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
 import java.util.List;
 
 public class MazePanel extends JPanel {
-    private Cell[][] grid;
+    private Maze maze;
     private int cellSize = 25;
     private List<Cell> currentPath = new ArrayList<>();
     private int pathDrawLimit = 0;
@@ -12,28 +17,185 @@ public class MazePanel extends JPanel {
     private final Color COLOR_PATH = new Color(255, 215, 0); // Emas Eldoria
     private final Color COLOR_START = new Color(0, 255, 0);
     private final Color COLOR_END = new Color(255, 0, 0);
+    private static final Color COLOR_PLAIN = new Color(144, 238, 144, 200);
+    private static final Color COLOR_MUD = new Color(139, 69, 19, 200);
+    private static final Color COLOR_WATER = new Color(30, 144, 255, 200);
+    private static final BasicStroke WALL_STROKE = new BasicStroke(2);
+
+    // Viewport: scale = piksel per sel, (viewX, viewY) = posisi layar sudut kiri-atas maze.
+    // Mulai dalam mode pas-layar; scroll untuk zoom di posisi kursor, seret untuk geser,
+    // klik dua kali untuk kembali pas-layar. Di bawah DETAIL_MIN piksel per sel dinding tidak
+    // lagi terbaca, jadi lapisan diambil dari mipmap (LOD) alih-alih digambar per sel.
+    private static final int DETAIL_MIN = 4;
+    private static final double MAX_SCALE = 64;
+    private static final double ZOOM_STEP = 1.25;
+    private double scale = 25;
+    private double viewX, viewY;
+    private boolean fitView = true;
+    private MazeMipmap mipmap;
+
+    // Lapisan statis (latar, medan, dinding) seukuran panel, hanya bagian labirin yang terlihat.
+    // Digambar ulang hanya jika maze, revisinya (medan/dinding) atau ukuran panel berubah;
+    // frame animasi cukup menyalin gambar ini lalu menggambar jalur dan penanda di atasnya.
+    private BufferedImage layer;
+    private Maze layerMaze;
+    private long layerRevision;
+    private double layerScale, layerViewX, layerViewY;
+
+    // Frame = lapisan statis + penanda + segmen jalur yang sudah digambar. Segmen baru
+    // ditambahkan langsung ke frame dan hanya persegi pembatasnya yang di-repaint, jadi
+    // animasi jalur sepanjang L berbiaya O(L) total, bukan O(L^2).
+    private BufferedImage frame;
+    private List<Cell> framePath;
+    private int frameLimit;
+    private int originX, originY;
 
     public MazePanel() {
         setBackground(new Color(15, 15, 25));
+
+        MouseAdapter viewport = new MouseAdapter() {
+            private Point drag;
+
+            @Override
+            public void mousePressed(MouseEvent e) { drag = e.getPoint(); }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (drag == null) return;
+                panBy(e.getX() - drag.x, e.getY() - drag.y);
+                drag = e.getPoint();
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) fitToWindow();
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoomAt(e.getX(), e.getY(), Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()));
+            }
+        };
+        addMouseListener(viewport);
+        addMouseMotionListener(viewport);
+        addMouseWheelListener(viewport);
     }
 
-    public void setMaze(Cell[][] grid) {
-        this.grid = grid;
-        this.currentPath.clear();
+    public void setMaze(Maze maze) {
+        this.maze = maze;
+        this.currentPath = new ArrayList<>();
         this.pathDrawLimit = 0;
+        this.fitView = true;
+        repaint();
+    }
+
+    public void fitToWindow() {
+        fitView = true;
+        repaint();
+    }
+
+    public void panBy(int dx, int dy) {
+        if (maze == null) return;
+        updateView();
+        viewX += dx;
+        viewY += dy;
+        fitView = false;
+        repaint();
+    }
+
+    // Zoom dengan titik (mx, my) tetap di bawah kursor. Mode detail memakai ukuran sel bulat
+    // supaya dinding tetap tajam; tiap notch dijamin mengubah ukuran minimal 1 piksel.
+    public void zoomAt(int mx, int my, double factor) {
+        if (maze == null) return;
+        updateView();
+        double next = Math.max(minScale(), Math.min(MAX_SCALE, scale * factor));
+        if (next >= DETAIL_MIN) {
+            next = Math.round(next);
+            if (next == scale) next = Math.max(minScale(), Math.min(MAX_SCALE, scale + Math.signum(factor - 1)));
+        }
+        if (next == scale) return;
+        viewX = mx - (mx - viewX) * next / scale;
+        viewY = my - (my - viewY) * next / scale;
+        if (next >= DETAIL_MIN) {
+            viewX = Math.round(viewX);
+            viewY = Math.round(viewY);
+        }
+        scale = next;
+        fitView = false;
         repaint();
     }
 
+    public double getScale() { return scale; }
+
+    private double minScale() {
+        return Math.min(DETAIL_MIN, fitScale() / 2);
+    }
+
+    private double fitScale() {
+        return Math.max(1e-4, Math.min((getWidth() - 20.0) / maze.getWidth(), (getHeight() - 20.0) / maze.getHeight()));
+    }
+
+    // Mode pas-layar: ukuran sel bulat seperti sebelumnya selama masih >= DETAIL_MIN,
+    // selain itu skala pecahan (LOD) agar labirin besar tetap muat seluruhnya
+    private void updateView() {
+        if (!fitView) return;
+        int cols = maze.getWidth(), rows = maze.getHeight();
+        int fit = Math.min((getWidth() - 20) / cols, (getHeight() - 20) / rows);
+        if (fit >= DETAIL_MIN) {
+            scale = fit;
+            viewX = (getWidth() - cols * fit) / 2;
+            viewY = (getHeight() - rows * fit) / 2;
+        } else {
+            scale = fitScale();
+            viewX = (getWidth() - cols * scale) / 2;
+            viewY = (getHeight() - rows * scale) / 2;
+        }
+    }
+
+    private boolean detail() {
+        return scale >= DETAIL_MIN;
+    }
+
+    // Pusat sel (x, y) di layar; mode detail memakai aritmetika bulat yang sama dengan lapisan
+    private int screenX(int x) {
+        return detail() ? originX + x * cellSize + cellSize / 2 : (int) (viewX + (x + 0.5) * scale);
+    }
+
+    private int screenY(int y) {
+        return detail() ? originY + y * cellSize + cellSize / 2 : (int) (viewY + (y + 0.5) * scale);
+    }
+
     public void setPath(List<Cell> path) {
         this.currentPath = path;
         this.pathDrawLimit = 0;
     }
 
     public void incrementPathIndex() {
-        if (currentPath != null && pathDrawLimit < currentPath.size()) {
-            pathDrawLimit++;
+        advancePath(1);
+    }
+
+    // Tambah beberapa sel jalur sekaligus (batch per tick untuk jalur panjang) dan repaint
+    // hanya area segmen yang baru
+    public void advancePath(int steps) {
+        if (currentPath == null || pathDrawLimit >= currentPath.size()) return;
+        int from = Math.max(0, pathDrawLimit - 1);
+        boolean restart = frame == null || framePath != currentPath || pathDrawLimit < frameLimit;
+        pathDrawLimit = Math.min(currentPath.size(), pathDrawLimit + steps);
+        // Frame belum ada atau masih berisi jalur lama: seluruh panel harus disusun ulang
+        if (restart) {
             repaint();
+            return;
+        }
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE;
+        for (int i = from; i < pathDrawLimit; i++) {
+            Cell c = currentPath.get(i);
+            minX = Math.min(minX, c.x); maxX = Math.max(maxX, c.x);
+            minY = Math.min(minY, c.y); maxY = Math.max(maxY, c.y);
         }
+        // Dari pusat sel: setengah sel + tebal garis + 2 px untuk tepi antialias
+        int pad = cellSize / 2 + pathStrokeWidth() + 2;
+        int x0 = screenX(minX) - pad, y0 = screenY(minY) - pad;
+        repaint(x0, y0, screenX(maxX) + pad - x0, screenY(maxY) + pad - y0);
     }
 
     public int getPathDrawLimit() {
@@ -41,69 +203,206 @@ public class MazePanel extends JPanel {
     }
 
     public void resetAnimation() {
-        this.currentPath.clear();
+        this.currentPath = new ArrayList<>();
         this.pathDrawLimit = 0;
         repaint();
     }
 
-    public Cell[][] getGrid() { return grid; }
-    public Cell getStartCell() { return grid != null ? grid[0][0] : null; }
+    public Maze getMaze() { return maze; }
+    public Cell getStartCell() { return maze != null ? maze.cell(0, 0) : null; }
     public Cell getEndCell() {
-        return grid != null ? grid[grid.length - 1][grid[0].length - 1] : null;
+        return maze != null ? maze.cell(maze.getWidth() - 1, maze.getHeight() - 1) : null;
     }
 
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        if (grid == null) {
+        MazeEvents.Paint event = new MazeEvents.Paint();
+        event.begin();
+        boolean rebuilt = paintMaze(g);
+        event.end();
+        if (event.shouldCommit()) {
+            Rectangle clip = g.getClipBounds();
+            event.width = maze != null ? maze.getWidth() : 0;
+            event.height = maze != null ? maze.getHeight() : 0;
+            event.cellSize = cellSize;
+            event.lod = maze != null && !detail();
+            event.pathCells = pathDrawLimit;
+            event.clipArea = clip != null ? (long) clip.width * clip.height : (long) getWidth() * getHeight();
+            event.layerRebuilt = rebuilt;
+            event.commit();
+        }
+    }
+
+    // true jika lapisan statis harus digambar ulang pada frame ini
+    private boolean paintMaze(Graphics g) {
+        if (maze == null) {
+            super.paintComponent(g);
             drawWelcomeMessage(g);
-            return;
+            return false;
         }
 
         Graphics2D g2d = (Graphics2D) g;
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        int cols = grid.length;
-        int rows = grid[0].length;
-        cellSize = Math.min((getWidth() - 20) / cols, (getHeight() - 20) / rows);
-        if (cellSize < 5) cellSize = 5;
+        int cols = maze.getWidth();
+        int rows = maze.getHeight();
+        updateView();
+        cellSize = (int) scale;
+        int offsetX = (int) viewX;
+        int offsetY = (int) viewY;
 
-        int mazeWidth = cols * cellSize;
-        int mazeHeight = rows * cellSize;
-        int offsetX = (getWidth() - mazeWidth) / 2;
-        int offsetY = (getHeight() - mazeHeight) / 2;
+        boolean rebuilt = layerStale();
+        if (rebuilt) {
+            if (!detail()) renderOverview();
+            else if (canScroll(offsetX, offsetY)) scrollLayer(offsetX, offsetY, cols, rows);
+            else renderLayer(offsetX, offsetY, cols, rows, new Rectangle(0, 0, getWidth(), getHeight()));
+            layerMaze = maze;
+            layerRevision = maze.getRevision();
+            layerScale = scale;
+            layerViewX = viewX;
+            layerViewY = viewY;
+        }
+        updateFrame(rebuilt, offsetX, offsetY, cols, rows);
+        g2d.drawImage(frame, 0, 0, null);
+        return rebuilt;
+    }
 
-        for (int x = 0; x < cols; x++) {
-            for (int y = 0; y < rows; y++) {
-                Cell cell = grid[x][y];
-                int px = offsetX + (x * cellSize);
-                int py = offsetY + (y * cellSize);
-                drawStyledCell(g2d, cell, px, py, cellSize);
-            }
+    // Jalur baru, jalur dipendekkan, atau lapisan berubah -> frame disusun ulang dari lapisan;
+    // selain itu cukup gambar segmen yang belum ada di frame
+    private void updateFrame(boolean rebuilt, int offsetX, int offsetY, int cols, int rows) {
+        List<Cell> path = currentPath != null ? currentPath : List.of();
+        boolean restart = rebuilt || frame == null || framePath != path || pathDrawLimit < frameLimit;
+        if (frame == null || frame.getWidth() != layer.getWidth() || frame.getHeight() != layer.getHeight()) {
+            frame = new BufferedImage(layer.getWidth(), layer.getHeight(), BufferedImage.TYPE_INT_RGB);
+        }
+        Graphics2D fg = frame.createGraphics();
+        fg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        if (restart) {
+            fg.drawImage(layer, 0, 0, null);
+            drawMarkers(fg, offsetX, offsetY, cols, rows);
+            framePath = path;
+            frameLimit = 0;
+            originX = offsetX;
+            originY = offsetY;
+        }
+        drawPathSegments(fg, Math.max(0, frameLimit - 1), pathDrawLimit - 1);
+        frameLimit = pathDrawLimit;
+        fg.dispose();
+    }
+
+    // Paksa lapisan statis digambar ulang penuh pada paint berikutnya (buffer dipakai ulang);
+    // dipakai benchmark untuk mengukur jalur tanpa cache
+    void invalidateLayer() {
+        layerMaze = null;
+    }
+
+    private boolean layerStale() {
+        return layer == null || layerMaze != maze || layerRevision != maze.getRevision() || layerScale != scale
+                || layerViewX != viewX || layerViewY != viewY
+                || layer.getWidth() != getWidth() || layer.getHeight() != getHeight();
+    }
+
+    private void ensureLayer() {
+        int w = Math.max(1, getWidth()), h = Math.max(1, getHeight());
+        if (layer == null || layer.getWidth() != w || layer.getHeight() != h) {
+            layer = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
         }
+    }
 
-        drawMarkers(g2d, offsetX, offsetY, cols, rows);
+    // LOD: satu piksel bisa mewakili banyak sel; biaya O(piksel panel) berapa pun ukuran maze
+    private void renderOverview() {
+        ensureLayer();
+        if (mipmap == null || !mipmap.isCurrent(maze)) mipmap = new MazeMipmap(maze, terrainPalette());
+        int[] pixels = ((DataBufferInt) layer.getRaster().getDataBuffer()).getData();
+        mipmap.render(pixels, layer.getWidth(), layer.getHeight(), viewX, viewY, scale, getBackground().getRGB() & 0xFFFFFF);
+    }
 
-        if (currentPath != null && !currentPath.isEmpty()) {
-            drawAnimatedPath(g2d, offsetX, offsetY);
+    // Warna medan seperti di mode detail, sudah dicampur dengan latar (alfa 200)
+    private int[] terrainPalette() {
+        int[] palette = new int[256];
+        Color bg = getBackground();
+        for (int w = 0; w < palette.length; w++) {
+            Color c = w == 1 ? COLOR_PLAIN : w == 5 ? COLOR_MUD : COLOR_WATER;
+            int a = c.getAlpha();
+            int r = (c.getRed() * a + bg.getRed() * (255 - a)) / 255;
+            int g = (c.getGreen() * a + bg.getGreen() * (255 - a)) / 255;
+            int b = (c.getBlue() * a + bg.getBlue() * (255 - a)) / 255;
+            palette[w] = r << 16 | g << 8 | b;
         }
+        return palette;
+    }
+
+    // Hanya geser (skala, maze dan ukuran sama): isi lama masih berlaku, cukup digeser
+    private boolean canScroll(int offsetX, int offsetY) {
+        return layer != null && layerMaze == maze && layerRevision == maze.getRevision() && layerScale == scale
+                && layer.getWidth() == getWidth() && layer.getHeight() == getHeight()
+                && Math.abs(offsetX - (int) layerViewX) < getWidth() && Math.abs(offsetY - (int) layerViewY) < getHeight();
+    }
+
+    // Salin lapisan lama ke posisi baru lalu gambar hanya strip yang baru terlihat,
+    // jadi seret di mode detail berbiaya O(strip) bukan O(sel terlihat)
+    private void scrollLayer(int offsetX, int offsetY, int cols, int rows) {
+        int dx = offsetX - (int) layerViewX, dy = offsetY - (int) layerViewY;
+        int w = layer.getWidth(), h = layer.getHeight();
+        Graphics2D lg = layer.createGraphics();
+        lg.copyArea(0, 0, w, h, dx, dy);
+        lg.dispose();
+        if (dx > 0) renderLayer(offsetX, offsetY, cols, rows, new Rectangle(0, 0, dx, h));
+        else if (dx < 0) renderLayer(offsetX, offsetY, cols, rows, new Rectangle(w + dx, 0, -dx, h));
+        if (dy > 0) renderLayer(offsetX, offsetY, cols, rows, new Rectangle(0, 0, w, dy));
+        else if (dy < 0) renderLayer(offsetX, offsetY, cols, rows, new Rectangle(0, h + dy, w, -dy));
     }
 
-    private void drawStyledCell(Graphics2D g2d, Cell cell, int px, int py, int size) {
-        if (cell.weight == 1) g2d.setColor(new Color(144, 238, 144, 200));
-        else if (cell.weight == 5) g2d.setColor(new Color(139, 69, 19, 200));
-        else g2d.setColor(new Color(30, 144, 255, 200));
+    // Hanya sel yang bersinggungan dengan area (panel atau strip) yang digambar, jadi biaya dan
+    // memori lapisan dibatasi ukuran panel, bukan ukuran labirin. Garis dinding melebar 1 px ke
+    // sel tetangga, karena itu rentang sel ditambah satu di tiap sisi.
+    private void renderLayer(int offsetX, int offsetY, int cols, int rows, Rectangle area) {
+        ensureLayer();
+        Graphics2D lg = layer.createGraphics();
+        lg.clip(area);
+        lg.setColor(getBackground());
+        lg.fillRect(area.x, area.y, area.width, area.height);
+        lg.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        lg.setStroke(WALL_STROKE);
+
+        int x0 = Math.max(0, Math.floorDiv(area.x - offsetX, cellSize) - 1);
+        int x1 = Math.min(cols, Math.floorDiv(area.x + area.width - offsetX, cellSize) + 2);
+        int y0 = Math.max(0, Math.floorDiv(area.y - offsetY, cellSize) - 1);
+        int y1 = Math.min(rows, Math.floorDiv(area.y + area.height - offsetY, cellSize) + 2);
+        for (int x = x0; x < x1; x++) {
+            for (int y = y0; y < y1; y++) {
+                int px = offsetX + (x * cellSize);
+                int py = offsetY + (y * cellSize);
+                drawStyledCell(lg, maze.index(x, y), px, py, cellSize);
+            }
+        }
+        lg.dispose();
+    }
+
+    private void drawStyledCell(Graphics2D g2d, int cell, int px, int py, int size) {
+        int weight = maze.getWeight(cell);
+        if (weight == 1) g2d.setColor(COLOR_PLAIN);
+        else if (weight == 5) g2d.setColor(COLOR_MUD);
+        else g2d.setColor(COLOR_WATER);
 
         g2d.fillRect(px, py, size, size);
-        g2d.setColor(new Color(0, 0, 0));
-        g2d.setStroke(new BasicStroke(2));
-        if (cell.walls[0]) g2d.drawLine(px, py, px + size, py);
-        if (cell.walls[1]) g2d.drawLine(px + size, py, px + size, py + size);
-        if (cell.walls[2]) g2d.drawLine(px + size, py + size, px, py + size);
-        if (cell.walls[3]) g2d.drawLine(px, py + size, px, py);
+        g2d.setColor(Color.BLACK);
+        if (maze.hasWall(cell, Maze.TOP)) g2d.drawLine(px, py, px + size, py);
+        if (maze.hasWall(cell, Maze.RIGHT)) g2d.drawLine(px + size, py, px + size, py + size);
+        if (maze.hasWall(cell, Maze.BOTTOM)) g2d.drawLine(px + size, py + size, px, py + size);
+        if (maze.hasWall(cell, Maze.LEFT)) g2d.drawLine(px, py + size, px, py);
     }
 
     private void drawMarkers(Graphics2D g2d, int ox, int oy, int cols, int rows) {
+        if (!detail()) {
+            // Penanda minimal beberapa piksel agar tetap terlihat di tampilan jauh
+            int r = 8;
+            g2d.setColor(COLOR_START);
+            g2d.fillOval(screenX(0) - r / 2, screenY(0) - r / 2, r, r);
+            g2d.setColor(COLOR_END);
+            g2d.fillOval(screenX(cols - 1) - r / 2, screenY(rows - 1) - r / 2, r, r);
+            return;
+        }
         int r = (int)(cellSize * 0.7);
         g2d.setColor(COLOR_START);
         g2d.fillOval(ox + (cellSize - r) / 2, oy + (cellSize - r) / 2, r, r);
@@ -113,17 +412,32 @@ public class MazePanel extends JPanel {
         g2d.fillOval(ex + (cellSize - r) / 2, ey + (cellSize - r) / 2, r, r);
     }
 
-    private void drawAnimatedPath(Graphics2D g2d, int ox, int oy) {
-        g2d.setStroke(new BasicStroke(Math.max(3, cellSize / 5), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+    private int pathStrokeWidth() {
+        return Math.max(3, cellSize / 5);
+    }
+
+    // Segmen i menghubungkan sel i dan i+1; menggambar segmen from..to-1. Segmen di luar panel
+    // dilewati, begitu juga segmen yang jatuh di satu piksel yang sama pada tampilan jauh.
+    private void drawPathSegments(Graphics2D g2d, int from, int to) {
+        if (from >= to) return;
+        g2d.setStroke(new BasicStroke(pathStrokeWidth(), BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
         g2d.setColor(COLOR_PATH);
-        for (int i = 0; i < pathDrawLimit - 1; i++) {
+        int margin = cellSize + pathStrokeWidth() + 2;
+        int w = getWidth(), h = getHeight();
+        for (int i = from; i < to; i++) {
             Cell c1 = currentPath.get(i);
             Cell c2 = currentPath.get(i + 1);
-            g2d.drawLine(ox + c1.x * cellSize + cellSize / 2, oy + c1.y * cellSize + cellSize / 2,
-                    ox + c2.x * cellSize + cellSize / 2, oy + c2.y * cellSize + cellSize / 2);
+            int x1 = screenX(c1.x), y1 = screenY(c1.y), x2 = screenX(c2.x), y2 = screenY(c2.y);
+            if (!detail() && x1 == x2 && y1 == y2) continue;
+            if (outside(x1, y1, w, h, margin) && outside(x2, y2, w, h, margin)) continue;
+            g2d.drawLine(x1, y1, x2, y2);
         }
     }
 
+    private static boolean outside(int x, int y, int w, int h, int margin) {
+        return x < -margin || y < -margin || x > w + margin || y > h + margin;
+    }
+
     private void drawWelcomeMessage(Graphics g) {
         Graphics2D g2d = (Graphics2D) g;
         g2d.setColor(new Color(212, 175, 55));
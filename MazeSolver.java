@@ -1,34 +1,128 @@
 import java.util.*;
 
 public class MazeSolver {
-    private Cell[][] grid;
-    private int rows, cols;
+    public static final String[] ALGORITHMS = {"BFS", "DFS", "Dijkstra", "A*", "Dial", "Bi-BFS", "Bi-A*", "HPA*", "ALT"};
 
-    public MazeSolver(Cell[][] grid) {
-        this.grid = grid;
-        this.cols = grid.length;
-        this.rows = grid[0].length;
+    private final Maze maze;
+    private HierarchicalPathfinder hierarchy;
+    private LandmarkHeuristic landmarks;
+
+    // Solver tidak menyimpan state pencarian; overload tanpa context memakai
+    // SearchContext.forCurrentThread, jadi satu MazeSolver aman dipakai bersamaan oleh banyak thread.
+    public MazeSolver(Maze maze) {
+        this.maze = maze;
     }
 
-    public List<Cell> solveBFS(Cell start, Cell end) {
-        resetVisited();
-        Queue<Cell> queue = new LinkedList<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
+    public Maze getMaze() { return maze; }
 
-        queue.offer(start);
-        start.setVisited(true);
-        parentMap.put(start, null);
+    // Perkiraan heap untuk solve dengan `threads` thread pencari: satu SearchContext per thread
+    // ditambah struktur bersama (tabel landmark ALT beserta context pembangunnya, pintu HPA*)
+    public static long heapBytesNeeded(long cells, int threads) {
+        long landmarks = (LandmarkHeuristic.DEFAULT_LANDMARKS + 2) * 4L + 32 + 12;
+        long hierarchy = 4;
+        return cells * ((long) threads * SearchContext.BYTES_PER_CELL + landmarks + hierarchy);
+    }
 
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
+    public SearchContext newContext() {
+        return new SearchContext(maze.size());
+    }
+
+    // Node yang diekspansi oleh solve terakhir di thread ini
+    public int getLastExpanded() {
+        return context().getExpanded();
+    }
+
+    private SearchContext context() {
+        return SearchContext.forCurrentThread(maze.size());
+    }
+
+    public List<Cell> solve(String algorithm, Cell start, Cell end) {
+        return solve(algorithm, start, end, context());
+    }
+
+    public List<Cell> solve(String algorithm, Cell start, Cell end, SearchContext ctx) {
+        MazeEvents.Solve event = new MazeEvents.Solve();
+        event.begin();
+        List<Cell> path = dispatch(algorithm, start, end, ctx);
+        event.end();
+        if (event.shouldCommit()) {
+            event.width = maze.getWidth();
+            event.height = maze.getHeight();
+            event.algorithm = algorithm;
+            event.expanded = ctx.stats.expanded;
+            event.frontierPeak = ctx.stats.frontierPeak;
+            event.pathLength = path.size();
+            event.commit();
+        }
+        return path;
+    }
+
+    private List<Cell> dispatch(String algorithm, Cell start, Cell end, SearchContext ctx) {
+        if (algorithm.equals("BFS")) return solveBFS(start, end, ctx);
+        else if (algorithm.equals("DFS")) return solveDFS(start, end, ctx);
+        else if (algorithm.equals("Dijkstra")) return solveDijkstra(start, end, ctx);
+        else if (algorithm.equals("Dial")) return solveDial(start, end, ctx);
+        else if (algorithm.equals("Bi-BFS")) return solveBidirectionalBFS(start, end, ctx);
+        else if (algorithm.equals("Bi-A*")) return solveBidirectionalAStar(start, end, ctx);
+        else if (algorithm.equals("HPA*")) return solveHPA(start, end, ctx);
+        else if (algorithm.equals("ALT")) return solveALT(start, end, ctx);
+        else return solveAStar(start, end, ctx);
+    }
+
+    // Bangun praproses algoritma (tabel landmark ALT, graf cluster HPA*) sekarang, supaya
+    // query pertama yang diukur tidak ikut menanggungnya. Algoritma lain tidak punya praproses.
+    public void prepare(String algorithm) {
+        if (algorithm.equals("HPA*")) getHierarchy().refresh();
+        else if (algorithm.equals("ALT")) getLandmarkTables();
+    }
+
+    // Seperti solve, tapi ikut mengembalikan salinan statistik pencarian termasuk alokasi thread
+    public SearchResult search(String algorithm, Cell start, Cell end) {
+        return search(algorithm, start, end, context());
+    }
+
+    public SearchResult search(String algorithm, Cell start, Cell end, SearchContext ctx) {
+        long before = SearchStats.threadAllocatedBytes();
+        List<Cell> path = solve(algorithm, start, end, ctx);
+        long after = SearchStats.threadAllocatedBytes();
+        SearchStats stats = ctx.getStats().copy();
+        if (before >= 0 && after >= 0) stats.allocatedBytes = after - before;
+        return new SearchResult(path, stats);
+    }
 
-            if (current == end) return reconstructPath(parentMap, end);
+    public List<Cell> solveBFS(Cell start, Cell end) {
+        return solveBFS(start, end, context());
+    }
 
-            for (Cell neighbor : getValidNeighbors(current)) {
-                if (!neighbor.isVisited()) {
-                    neighbor.setVisited(true);
-                    queue.offer(neighbor);
-                    parentMap.put(neighbor, current);
+    public List<Cell> solveBFS(Cell start, Cell end, SearchContext ctx) {
+        int[] parent = ctx.parent, frontier = ctx.frontier, mark = ctx.mark;
+        int seen = ctx.beginSearch();
+        int s = start.index(), goal = end.index();
+        SearchStats stats = ctx.stats;
+        int head = 0, tail = 0;
+
+        frontier[tail++] = s;
+        stats.push(1);
+        mark[s] = seen;
+        parent[s] = -1;
+
+        while (head < tail) {
+            int current = frontier[head++];
+            stats.pops++;
+            if (stats.cancelled()) return new ArrayList<>();
+            stats.expanded++;
+
+            if (current == goal) return reconstructPath(parent, goal);
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(current, dir)) continue;
+                int neighbor = maze.neighbor(current, dir);
+                stats.generated++;
+                if (mark[neighbor] != seen) {
+                    mark[neighbor] = seen;
+                    frontier[tail++] = neighbor;
+                    stats.push(tail - head);
+                    parent[neighbor] = current;
                 }
             }
         }
@@ -36,24 +130,38 @@ public class MazeSolver {
     }
 
     public List<Cell> solveDFS(Cell start, Cell end) {
-        resetVisited();
-        Stack<Cell> stack = new Stack<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
-
-        stack.push(start);
-        start.setVisited(true);
-        parentMap.put(start, null);
-
-        while (!stack.isEmpty()) {
-            Cell current = stack.pop();
-
-            if (current == end) return reconstructPath(parentMap, end);
+        return solveDFS(start, end, context());
+    }
 
-            for (Cell neighbor : getValidNeighbors(current)) {
-                if (!neighbor.isVisited()) {
-                    neighbor.setVisited(true);
-                    stack.push(neighbor);
-                    parentMap.put(neighbor, current);
+    public List<Cell> solveDFS(Cell start, Cell end, SearchContext ctx) {
+        int[] parent = ctx.parent, frontier = ctx.frontier, mark = ctx.mark;
+        int seen = ctx.beginSearch();
+        int s = start.index(), goal = end.index();
+        SearchStats stats = ctx.stats;
+        int top = 0;
+
+        frontier[top++] = s;
+        stats.push(1);
+        mark[s] = seen;
+        parent[s] = -1;
+
+        while (top > 0) {
+            int current = frontier[--top];
+            stats.pops++;
+            if (stats.cancelled()) return new ArrayList<>();
+            stats.expanded++;
+
+            if (current == goal) return reconstructPath(parent, goal);
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(current, dir)) continue;
+                int neighbor = maze.neighbor(current, dir);
+                stats.generated++;
+                if (mark[neighbor] != seen) {
+                    mark[neighbor] = seen;
+                    frontier[top++] = neighbor;
+                    stats.push(top);
+                    parent[neighbor] = current;
                 }
             }
         }
@@ -61,105 +169,365 @@ public class MazeSolver {
     }
 
     public List<Cell> solveDijkstra(Cell start, Cell end) {
-        resetVisited();
-        Map<Cell, Integer> costMap = new HashMap<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
+        return solveDijkstra(start, end, context());
+    }
 
-        PriorityQueue<Cell> pq = new PriorityQueue<>(Comparator.comparingInt(c -> costMap.getOrDefault(c, Integer.MAX_VALUE)));
+    public List<Cell> solveDijkstra(Cell start, Cell end, SearchContext ctx) {
+        return solveWeighted(start, end, false, null, ctx);
+    }
+
+    public List<Cell> solveAStar(Cell start, Cell end) {
+        return solveAStar(start, end, context());
+    }
+
+    public List<Cell> solveAStar(Cell start, Cell end, SearchContext ctx) {
+        return solveWeighted(start, end, true, null, ctx);
+    }
 
-        costMap.put(start, 0);
-        pq.offer(start);
-        parentMap.put(start, null);
+    public List<Cell> solveALT(Cell start, Cell end) {
+        return solveALT(start, end, context());
+    }
 
-        while (!pq.isEmpty()) {
-            Cell current = pq.poll();
-            current.setVisited(true);
+    // A* dengan heuristik landmark; selama tabel sedang dibangun ulang, jatuh ke Manhattan
+    public List<Cell> solveALT(Cell start, Cell end, SearchContext ctx) {
+        return solveWeighted(start, end, true, getLandmarkTables(), ctx);
+    }
 
-            if (current == end) return reconstructPath(parentMap, end);
+    public LandmarkHeuristic.Tables getLandmarkTables() {
+        LandmarkHeuristic heuristic;
+        synchronized (this) {
+            if (landmarks == null) {
+                // Build pertama yang dibatalkan tidak disimpan; query ini jatuh ke Manhattan
+                LandmarkHeuristic built = new LandmarkHeuristic(maze);
+                if (built.buildNow() == null) return null;
+                landmarks = built;
+            }
+            heuristic = landmarks;
+        }
+        return heuristic.current();
+    }
 
-            for (Cell neighbor : getValidNeighbors(current)) {
-                if (neighbor.isVisited()) continue;
+    // Dipanggil setelah dinding/medan diubah agar tabel turunan dibangun ulang lebih awal
+    public synchronized void mazeChanged() {
+        if (landmarks != null) landmarks.rebuildAsync();
+    }
 
-                int newCost = costMap.get(current) + neighbor.weight;
-                if (newCost < costMap.getOrDefault(neighbor, Integer.MAX_VALUE)) {
-                    costMap.put(neighbor, newCost);
-                    parentMap.put(neighbor, current);
-                    pq.remove(neighbor);
-                    pq.offer(neighbor);
+    // Dijkstra dan A* berbagi loop yang sama; A* menambah heuristik Manhattan (atau ALT).
+    // Prioritas A* = (f << 32) | h agar seri dipecah ke sel yang lebih dekat ke tujuan.
+    private List<Cell> solveWeighted(Cell start, Cell end, boolean useHeuristic, LandmarkHeuristic.Tables alt, SearchContext ctx) {
+        int[] parent = ctx.parent, cost = ctx.cost, mark = ctx.mark;
+        int seen = ctx.beginSearch();
+        int closed = seen + 1;
+        int s = start.index(), goal = end.index();
+        IndexedMinHeap open = ctx.open;
+        SearchStats stats = ctx.stats;
+        open.clear();
+
+        cost[s] = 0;
+        mark[s] = seen;
+        parent[s] = -1;
+        open.push(s, priority(0, s, goal, useHeuristic, alt));
+        stats.push(1);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+            stats.pops++;
+            if (stats.cancelled()) return new ArrayList<>();
+            mark[current] = closed;
+            stats.expanded++;
+
+            if (current == goal) return reconstructPath(parent, goal);
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(current, dir)) continue;
+                int neighbor = maze.neighbor(current, dir);
+                stats.generated++;
+                if (mark[neighbor] == closed) continue;
+
+                int newCost = cost[current] + maze.getWeight(neighbor);
+                if (mark[neighbor] != seen) {
+                    mark[neighbor] = seen;
+                    cost[neighbor] = newCost;
+                    parent[neighbor] = current;
+                    open.push(neighbor, priority(newCost, neighbor, goal, useHeuristic, alt));
+                    stats.push(open.size());
+                } else if (newCost < cost[neighbor]) {
+                    cost[neighbor] = newCost;
+                    parent[neighbor] = current;
+                    open.decreaseKey(neighbor, priority(newCost, neighbor, goal, useHeuristic, alt));
+                    stats.decreaseKeys++;
                 }
             }
         }
         return new ArrayList<>();
     }
 
-    public List<Cell> solveAStar(Cell start, Cell end) {
-        resetVisited();
-        Map<Cell, Integer> gScore = new HashMap<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
-
-        PriorityQueue<Cell> pq = new PriorityQueue<>(Comparator.comparingInt(c -> {
-            int g = gScore.getOrDefault(c, Integer.MAX_VALUE);
-            int h = Math.abs(c.x - end.x) + Math.abs(c.y - end.y);
-            return g + h;
-        }));
-
-        gScore.put(start, 0);
-        pq.offer(start);
-        parentMap.put(start, null);
-
-        while (!pq.isEmpty()) {
-            Cell current = pq.poll();
-            current.setVisited(true);
-
-            if (current == end) return reconstructPath(parentMap, end);
-
-            for (Cell neighbor : getValidNeighbors(current)) {
-                if (neighbor.isVisited()) continue;
-
-                int newG = gScore.get(current) + neighbor.weight;
-                if (newG < gScore.getOrDefault(neighbor, Integer.MAX_VALUE)) {
-                    gScore.put(neighbor, newG);
-                    parentMap.put(neighbor, current);
-                    pq.remove(neighbor);
-                    pq.offer(neighbor);
+    // Dijkstra dengan antrean bucket (Dial): O(1) push/pop untuk bobot medan 1/5/10.
+    // Jika bobot maze melebihi DIAL_MAX_WEIGHT, otomatis jatuh ke radix heap.
+    public List<Cell> solveDial(Cell start, Cell end) {
+        return solveDial(start, end, context());
+    }
+
+    public List<Cell> solveDial(Cell start, Cell end, SearchContext ctx) {
+        MonotoneQueue queue = ctx.monotoneQueue(maze.getMaxWeight());
+        int[] parent = ctx.parent, cost = ctx.cost, mark = ctx.mark;
+        int seen = ctx.beginSearch();
+        int closed = seen + 1;
+        int s = start.index(), goal = end.index();
+        SearchStats stats = ctx.stats;
+        queue.clear();
+
+        cost[s] = 0;
+        mark[s] = seen;
+        parent[s] = -1;
+        queue.push(s, 0);
+        stats.push(1);
+
+        while (!queue.isEmpty()) {
+            int current = queue.pop();
+            stats.pops++;
+            if (stats.cancelled()) return new ArrayList<>();
+            mark[current] = closed;
+            stats.expanded++;
+
+            if (current == goal) return reconstructPath(parent, goal);
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(current, dir)) continue;
+                int neighbor = maze.neighbor(current, dir);
+                stats.generated++;
+                if (mark[neighbor] == closed) continue;
+
+                int newCost = cost[current] + maze.getWeight(neighbor);
+                if (mark[neighbor] != seen) {
+                    mark[neighbor] = seen;
+                    cost[neighbor] = newCost;
+                    parent[neighbor] = current;
+                    queue.push(neighbor, newCost);
+                    stats.push((int) (stats.pushes + 1 - stats.pops));
+                } else if (newCost < cost[neighbor]) {
+                    cost[neighbor] = newCost;
+                    parent[neighbor] = current;
+                    queue.decreaseKey(neighbor, newCost);
+                    stats.decreaseKeys++;
                 }
             }
         }
         return new ArrayList<>();
     }
 
-    private List<Cell> getValidNeighbors(Cell c) {
-        List<Cell> neighbors = new ArrayList<>();
-        int x = c.x;
-        int y = c.y;
+    public List<Cell> solveBidirectionalBFS(Cell start, Cell end) {
+        return solveBidirectionalBFS(start, end, context());
+    }
+
+    // BFS dari dua ujung, selalu memperluas satu level penuh dari sisi dengan frontier terkecil.
+    // Karena level diproses utuh, pertemuan pertama sudah memberi jalur terpendek.
+    public List<Cell> solveBidirectionalBFS(Cell start, Cell end, SearchContext ctx) {
+        ctx.ensureBackward();
+        int[] parentF = ctx.parent, markF = ctx.mark, queueF = ctx.frontier;
+        int[] parentB = ctx.parentB, markB = ctx.markB, queueB = ctx.frontierB;
+        int seen = ctx.beginSearch();
+        int s = start.index(), goal = end.index();
+        SearchStats stats = ctx.stats;
+        int headF = 0, tailF = 0, headB = 0, tailB = 0;
+
+        queueF[tailF++] = s;
+        markF[s] = seen;
+        parentF[s] = -1;
+        queueB[tailB++] = goal;
+        markB[goal] = seen;
+        parentB[goal] = -1;
+        stats.push(1);
+        stats.push(2);
+
+        if (s == goal) return reconstructPath(parentF, goal);
+
+        while (headF < tailF && headB < tailB) {
+            boolean forward = tailF - headF <= tailB - headB;
+            int[] queue = forward ? queueF : queueB;
+            int[] mark = forward ? markF : markB;
+            int[] parent = forward ? parentF : parentB;
+            int[] otherMark = forward ? markB : markF;
+            int head = forward ? headF : headB;
+            int tail = forward ? tailF : tailB;
+            int levelEnd = tail;
+            int meetFrom = -1, meetTo = -1;
+            // Ukuran frontier sisi lain tetap selama level ini diproses
+            int otherSize = forward ? tailB - headB : tailF - headF;
+
+            level:
+            while (head < levelEnd) {
+                int current = queue[head++];
+                stats.pops++;
+                if (stats.cancelled()) return new ArrayList<>();
+                stats.expanded++;
+
+                for (int dir = 0; dir < 4; dir++) {
+                    if (!maze.canMove(current, dir)) continue;
+                    int neighbor = maze.neighbor(current, dir);
+                    stats.generated++;
+                    if (otherMark[neighbor] == seen) {
+                        meetFrom = current;
+                        meetTo = neighbor;
+                        break level;
+                    }
+                    if (mark[neighbor] != seen) {
+                        mark[neighbor] = seen;
+                        queue[tail++] = neighbor;
+                        stats.push(tail - head + otherSize);
+                        parent[neighbor] = current;
+                    }
+                }
+            }
 
-        if (!c.walls[0] && isValid(y - 1, x)) neighbors.add(grid[x][y - 1]);
-        if (!c.walls[1] && isValid(y, x + 1)) neighbors.add(grid[x + 1][y]);
-        if (!c.walls[2] && isValid(y + 1, x)) neighbors.add(grid[x][y + 1]);
-        if (!c.walls[3] && isValid(y, x - 1)) neighbors.add(grid[x - 1][y]);
+            if (meetFrom != -1) {
+                return forward ? joinPath(parentF, meetFrom, parentB, meetTo)
+                        : joinPath(parentF, meetTo, parentB, meetFrom);
+            }
+            if (forward) { headF = head; tailF = tail; }
+            else { headB = head; tailB = tail; }
+        }
+        return new ArrayList<>();
+    }
 
-        return neighbors;
+    public List<Cell> solveBidirectionalAStar(Cell start, Cell end) {
+        return solveBidirectionalAStar(start, end, context());
     }
 
-    private boolean isValid(int r, int c) {
-        return c >= 0 && c < cols && r >= 0 && r < rows;
+    public List<Cell> solveBidirectionalAStar(Cell start, Cell end, SearchContext ctx) {
+        return solveBidirectionalWeighted(start, end, true, ctx);
     }
 
-    private List<Cell> reconstructPath(Map<Cell, Cell> parentMap, Cell end) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = end;
-        while (current != null) {
-            path.add(0, current);
-            current = parentMap.get(current);
-        }
-        return path;
+    public List<Cell> solveBidirectionalDijkstra(Cell start, Cell end) {
+        return solveBidirectionalWeighted(start, end, false, context());
     }
 
-    private void resetVisited() {
-        for (int i = 0; i < cols; i++) {
-            for (int j = 0; j < rows; j++) {
-                grid[i][j].setVisited(false);
+    // Dijkstra/A* dua arah. Sisi maju menghitung biaya s..v (termasuk bobot v), sisi mundur
+    // biaya setelah v sampai tujuan, jadi jalur lewat v berbiaya costF[v] + costB[v].
+    // A* memakai potensial rata-rata p = hF - hB (maju) dan -p (mundur), dikali 2 agar tetap
+    // bulat, sehingga kedua sisi konsisten dan kriteria berhenti Dijkstra dua arah berlaku:
+    // topF + topB >= 2 * best + 2 * D, dengan D = jarak Manhattan start-tujuan (D = 0 untuk Dijkstra).
+    private List<Cell> solveBidirectionalWeighted(Cell start, Cell end, boolean useHeuristic, SearchContext ctx) {
+        ctx.ensureBackward();
+        int[] parentF = ctx.parent, costF = ctx.cost, markF = ctx.mark;
+        int[] parentB = ctx.parentB, costB = ctx.costB, markB = ctx.markB;
+        IndexedMinHeap openF = ctx.open, openB = ctx.openB;
+        int seen = ctx.beginSearch();
+        int closed = seen + 1;
+        int s = start.index(), goal = end.index();
+        SearchStats stats = ctx.stats;
+        openF.clear();
+        openB.clear();
+
+        costF[s] = 0;
+        markF[s] = seen;
+        parentF[s] = -1;
+        int offset = useHeuristic ? heuristic(s, end.x, end.y) : 0;
+        openF.push(s, bidirectionalKey(0, s, true, start, end, offset, useHeuristic));
+        costB[goal] = 0;
+        markB[goal] = seen;
+        parentB[goal] = -1;
+        openB.push(goal, bidirectionalKey(0, goal, false, start, end, offset, useHeuristic));
+        stats.push(1);
+        stats.push(2);
+
+        long best = s == goal ? 0 : Long.MAX_VALUE;
+        int meet = s == goal ? s : -1;
+
+        while (!openF.isEmpty() && !openB.isEmpty()) {
+            if (best != Long.MAX_VALUE && openF.peekKey() + openB.peekKey() >= 2 * (best + offset)) break;
+
+            boolean forward = openF.size() <= openB.size();
+            IndexedMinHeap open = forward ? openF : openB;
+            int[] parent = forward ? parentF : parentB;
+            int[] cost = forward ? costF : costB;
+            int[] mark = forward ? markF : markB;
+            int[] otherCost = forward ? costB : costF;
+            int[] otherMark = forward ? markB : markF;
+
+            int current = open.pop();
+            stats.pops++;
+            if (stats.cancelled()) return new ArrayList<>();
+            mark[current] = closed;
+            stats.expanded++;
+
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(current, dir)) continue;
+                int neighbor = maze.neighbor(current, dir);
+                stats.generated++;
+                if (mark[neighbor] == closed) continue;
+
+                // Mundur: melangkah neighbor -> current di arah maju, biayanya bobot current
+                int newCost = cost[current] + maze.getWeight(forward ? neighbor : current);
+                if (mark[neighbor] != seen) {
+                    mark[neighbor] = seen;
+                    cost[neighbor] = newCost;
+                    parent[neighbor] = current;
+                    open.push(neighbor, bidirectionalKey(newCost, neighbor, forward, start, end, offset, useHeuristic));
+                    stats.push(openF.size() + openB.size());
+                } else if (newCost < cost[neighbor]) {
+                    cost[neighbor] = newCost;
+                    parent[neighbor] = current;
+                    open.decreaseKey(neighbor, bidirectionalKey(newCost, neighbor, forward, start, end, offset, useHeuristic));
+                    stats.decreaseKeys++;
+                }
+
+                if (otherMark[neighbor] >= seen && (long) cost[neighbor] + otherCost[neighbor] < best) {
+                    best = (long) cost[neighbor] + otherCost[neighbor];
+                    meet = neighbor;
+                }
             }
         }
+
+        if (meet == -1) return new ArrayList<>();
+        return joinPath(parentF, meet, parentB, parentB[meet]);
+    }
+
+    public List<Cell> solveHPA(Cell start, Cell end) {
+        return solveHPA(start, end, context());
+    }
+
+    // Graf cluster dibangun saat query HPA* pertama, lalu diperbarui per cluster saat maze berubah
+    public List<Cell> solveHPA(Cell start, Cell end, SearchContext ctx) {
+        return getHierarchy().findPath(start, end, ctx);
+    }
+
+    public synchronized HierarchicalPathfinder getHierarchy() {
+        if (hierarchy == null) hierarchy = new HierarchicalPathfinder(maze);
+        return hierarchy;
+    }
+
+    private long bidirectionalKey(int g, int cell, boolean forward, Cell start, Cell end, int offset, boolean useHeuristic) {
+        if (!useHeuristic) return 2L * g;
+        int p = heuristic(cell, end.x, end.y) - heuristic(cell, start.x, start.y);
+        return 2L * g + (forward ? p : -p) + offset;
+    }
+
+    private long priority(int g, int cell, int goal, boolean useHeuristic, LandmarkHeuristic.Tables alt) {
+        if (!useHeuristic) return g;
+        int h = heuristic(cell, maze.xOf(goal), maze.yOf(goal));
+        if (alt != null) h = Math.max(h, alt.estimate(maze, cell, goal));
+        return ((long) (g + h) << 32) | h;
+    }
+
+    private int heuristic(int i, int gx, int gy) {
+        return Math.abs(maze.xOf(i) - gx) + Math.abs(maze.yOf(i) - gy);
+    }
+
+    // Rantai maju start..meetF lalu rantai mundur meetB..tujuan
+    private List<Cell> joinPath(int[] parentF, int meetF, int[] parentB, int meetB) {
+        List<Cell> path = reconstructPath(parentF, meetF);
+        for (int c = meetB; c != -1; c = parentB[c]) path.add(maze.cell(c));
+        return path;
+    }
+
+    private List<Cell> reconstructPath(int[] parent, int end) {
+        int length = 0;
+        for (int c = end; c != -1; c = parent[c]) length++;
+
+        List<Cell> path = new ArrayList<>(length);
+        for (int c = end; c != -1; c = parent[c]) path.add(maze.cell(c));
+        Collections.reverse(path);
+        return path;
     }
-}
\ No newline at end of file
+}
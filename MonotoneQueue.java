@@ -0,0 +1,9 @@
+// Antrean prioritas monoton (kunci yang di-pop tidak pernah menurun), cukup untuk Dijkstra
+// dengan bobot non-negatif. Diindeks dengan id sel seperti IndexedMinHeap.
+public interface MonotoneQueue {
+    void push(int id, int key);
+    void decreaseKey(int id, int key);
+    int pop();
+    boolean isEmpty();
+    void clear();
+}
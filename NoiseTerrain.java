@@ -0,0 +1,86 @@
+// Medan koheren dari value noise fraktal (3 oktaf, skala 32/16/8 sel). Nilai lattice dihitung
+// dari hash (seed, oktaf, ix, iy), jadi tidak ada tabel acak atau RNG bersama dan tiap baris bisa
+// diisi di thread mana pun. Dalam satu baris interpolasi vertikal hanya dihitung ulang saat
+// melewati batas lattice, sehingga biaya per sel cukup satu lerp + lookup fade per oktaf.
+// Ambang dipilih agar proporsinya mendekati medan acak lama: ~60% normal, ~30% lumpur, ~10% air.
+public class NoiseTerrain implements TerrainGenerator {
+    private static final int OCTAVES = 3;
+    private static final int BASE_SHIFT = 5;
+    private static final float MUD_THRESHOLD = 0.54f;
+    private static final float WATER_THRESHOLD = 0.685f;
+
+    // FADE[o][t] = smoothstep posisi t di dalam satu sel lattice oktaf o
+    private static final float[][] FADE = new float[OCTAVES][];
+    private static final float TOTAL_AMPLITUDE;
+
+    static {
+        float total = 0;
+        for (int o = 0; o < OCTAVES; o++) {
+            int size = 1 << (BASE_SHIFT - o);
+            FADE[o] = new float[size];
+            for (int t = 0; t < size; t++) {
+                float f = t / (float) size;
+                FADE[o][t] = f * f * (3 - 2 * f);
+            }
+            total += 1f / (1 << o);
+        }
+        TOTAL_AMPLITUDE = total;
+    }
+
+    private final ThreadLocal<float[]> rowBuffer = ThreadLocal.withInitial(() -> new float[0]);
+
+    @Override
+    public String getName() { return "Noise"; }
+
+    @Override
+    public void fillRow(long seed, int y, int width, byte[] out, int offset) {
+        float[] acc = rowBuffer.get();
+        if (acc.length < width) {
+            acc = new float[width];
+            rowBuffer.set(acc);
+        }
+
+        for (int o = 0; o < OCTAVES; o++) {
+            int shift = BASE_SHIFT - o;
+            int mask = (1 << shift) - 1;
+            float amplitude = 1f / (1 << o);
+            int iy = y >> shift;
+            float fy = FADE[o][y & mask];
+            float[] fade = FADE[o];
+
+            int ix = Integer.MIN_VALUE;
+            float left = 0, right = 0;
+            for (int x = 0; x < width; x++) {
+                int cx = x >> shift;
+                if (cx != ix) {
+                    // Kolom kanan sel sebelumnya = kolom kiri sel ini
+                    left = ix == cx - 1 ? right : column(seed, o, cx, iy, fy);
+                    right = column(seed, o, cx + 1, iy, fy);
+                    ix = cx;
+                }
+                float v = (left + (right - left) * fade[x & mask]) * amplitude;
+                acc[x] = o == 0 ? v : acc[x] + v;
+            }
+        }
+
+        float mud = MUD_THRESHOLD * TOTAL_AMPLITUDE, water = WATER_THRESHOLD * TOTAL_AMPLITUDE;
+        for (int x = 0; x < width; x++) {
+            float v = acc[x];
+            out[offset + x] = (byte) (v < mud ? 1 : v < water ? 5 : 10);
+        }
+    }
+
+    private static float column(long seed, int octave, int ix, int iy, float fy) {
+        float top = lattice(seed, octave, ix, iy);
+        return top + (lattice(seed, octave, ix, iy + 1) - top) * fy;
+    }
+
+    // Hash SplitMix64 atas koordinat lattice -> float seragam di [0, 1)
+    private static float lattice(long seed, int octave, int ix, int iy) {
+        long z = seed + octave * 0xD1B54A32D192ED03L + ix * 0x9E3779B97F4A7C15L + iy * 0xC2B2AE3D27D4EB4FL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return (z >>> 40) * 0x1.0p-24f;
+    }
+}
@@ -0,0 +1,155 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+
+// A* untuk file MazeFile yang tidak muat di heap (mis. 50000x50000 = 2,5 miliar sel, 5 GB).
+// Dinding dan medan dibaca lewat TilePager (tile = blok baris ~4 MB, cache LRU). State per sel
+// (1 byte: closed + arah ke parent) ada di file scratch yang juga di-page, dan frontier di
+// SpillHeap ter-mmap, jadi heap Java hanya memegang metadata tile. Tanpa array cost per sel:
+// A* lazy dengan heuristik Manhattan (konsisten, bobot >= 1), sel yang pertama di-pop sudah optimal
+// dan duplikat di frontier dilewati. Indeks sel memakai long (y * lebar + x).
+public class OutOfCoreSolver implements Closeable {
+    public static final int DEFAULT_CACHE_TILES = 64;
+    private static final int TARGET_TILE_BYTES = 4 << 20;
+    private static final int CLOSED = 0x80, HAS_PARENT = 0x04, DIR_MASK = 0x03;
+
+    private final FileChannel mazeChannel;
+    private final Path scratchDir;
+    private final int width, height;
+    private final long cells;
+    private final int tileBytes;
+    private final int cacheTiles;
+    private final TilePager walls, terrain;
+
+    private FileChannel stateChannel;
+    private TilePager state;
+    private long target = -1;
+    private long cost = -1, pathLength, expanded;
+
+    public OutOfCoreSolver(Path mazeFile, Path scratchDir, int cacheTiles) throws IOException {
+        this.mazeChannel = FileChannel.open(mazeFile, StandardOpenOption.READ);
+        this.scratchDir = scratchDir;
+        this.cacheTiles = cacheTiles;
+        ByteBuffer header = MazeFile.readHeader(mazeChannel, mazeFile);
+        width = header.getInt(8);
+        height = header.getInt(12);
+        cells = (long) width * height;
+        tileBytes = (int) Math.min(Integer.MAX_VALUE, (long) Math.max(1, TARGET_TILE_BYTES / width) * width);
+        walls = new TilePager(mazeChannel, FileChannel.MapMode.READ_ONLY, MazeFile.HEADER_BYTES, cells, tileBytes, cacheTiles);
+        terrain = new TilePager(mazeChannel, FileChannel.MapMode.READ_ONLY, MazeFile.HEADER_BYTES + cells, cells, tileBytes, cacheTiles);
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    // Mengembalikan true jika tujuan tercapai. Tiap pemanggilan memakai file state baru.
+    public boolean solve(int sx, int sy, int tx, int ty) throws IOException {
+        resetState();
+        long start = (long) sy * width + sx;
+        target = (long) ty * width + tx;
+        cost = -1;
+        pathLength = 0;
+        expanded = 0;
+
+        try (SpillHeap open = new SpillHeap(scratchDir)) {
+            open.push(manhattan(start), 0, start << 2);
+            while (!open.isEmpty()) {
+                long entry = open.pop();
+                long g = open.getPoppedG();
+                long u = entry >>> 2;
+                int s = state.get(u);
+                if ((s & CLOSED) != 0) continue;
+                state.put(u, (byte) (u == start ? CLOSED : CLOSED | HAS_PARENT | (int) (entry & DIR_MASK)));
+                expanded++;
+                if (u == target) {
+                    cost = g;
+                    break;
+                }
+
+                int bits = walls.get(u);
+                int ux = (int) (u % width), uy = (int) (u / width);
+                for (int dir = 0; dir < 4; dir++) {
+                    if ((bits & (1 << dir)) != 0) continue;
+                    int nx = ux + Maze.DX[dir], ny = uy + Maze.DY[dir];
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                    long v = (long) ny * width + nx;
+                    if ((state.get(v) & CLOSED) != 0) continue;
+                    long ng = g + (terrain.get(v) & 0xFF);
+                    // Payload menyimpan arah kembali ke parent (dari v menuju u)
+                    open.push(ng + manhattan(v), ng, v << 2 | Maze.opposite(dir));
+                }
+            }
+        }
+        if (cost < 0) return false;
+        forEachPathCell(c -> pathLength++);
+        return true;
+    }
+
+    private long manhattan(long i) {
+        return Math.abs(i % width - target % width) + Math.abs(i / width - target / width);
+    }
+
+    // Menelusuri jalur dari tujuan ke awal lewat arah parent di file state, tanpa menampung
+    // seluruh jalur di memori
+    public void forEachPathCell(LongConsumer consumer) throws IOException {
+        if (cost < 0) return;
+        long c = target;
+        while (true) {
+            consumer.accept(c);
+            int s = state.get(c);
+            if ((s & HAS_PARENT) == 0) break;
+            int dir = s & DIR_MASK;
+            c += (long) Maze.DY[dir] * width + Maze.DX[dir];
+        }
+    }
+
+    private void resetState() throws IOException {
+        if (stateChannel != null) stateChannel.close();
+        Path file = Files.createTempFile(scratchDir, "state", ".tmp");
+        stateChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        // File jarang (sparse): hanya halaman yang disentuh yang benar-benar memakan disk
+        stateChannel.write(ByteBuffer.allocate(1), cells - 1);
+        state = new TilePager(stateChannel, FileChannel.MapMode.READ_WRITE, 0, cells, tileBytes, cacheTiles);
+    }
+
+    public long getCost() { return cost; }
+    public long getPathLength() { return pathLength; }
+    public long getExpanded() { return expanded; }
+
+    public long getTileFaults() {
+        return walls.getFaults() + terrain.getFaults() + (state != null ? state.getFaults() : 0);
+    }
+
+    public double getTileHitRate() {
+        long hits = walls.getHits() + terrain.getHits() + (state != null ? state.getHits() : 0);
+        long total = hits + getTileFaults();
+        return total == 0 ? 1.0 : (double) hits / total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stateChannel != null) stateChannel.close();
+        mazeChannel.close();
+    }
+
+    // java OutOfCoreSolver <file.maze> [jumlah tile cache] [dir scratch]
+    public static void main(String[] args) throws IOException {
+        int cacheTiles = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CACHE_TILES;
+        Path scratch = Paths.get(args.length > 2 ? args[2] : System.getProperty("java.io.tmpdir"));
+        try (OutOfCoreSolver solver = new OutOfCoreSolver(Paths.get(args[0]), scratch, cacheTiles)) {
+            long start = System.nanoTime();
+            boolean found = solver.solve(0, 0, solver.getWidth() - 1, solver.getHeight() - 1);
+            double secs = (System.nanoTime() - start) / 1e9;
+            System.out.printf("%dx%d: %s, cost %d, %d langkah, %d node, %.1f s%n", solver.getWidth(), solver.getHeight(),
+                    found ? "ketemu" : "tidak ada jalur", solver.getCost(), solver.getPathLength(), solver.getExpanded(), secs);
+            System.out.printf("Tile fault %d, hit rate %.2f%%, heap terpakai %d MB%n", solver.getTileFaults(),
+                    solver.getTileHitRate() * 100, (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) >> 20);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Generasi paralel per tile. Tiap tile dibentuk sendiri (strategi apa pun, plus loop 10%)
+// di labirin kecil lalu disalin ke maze besar di ForkJoinPool. Setelah itu sambungan antar
+// tile dijahit serial: Kruskal atas graf tile (union-find) membuka tepat satu lorong per
+// sambungan yang terpilih, jadi hasilnya tetap satu labirin sempurna sebelum loop seam.
+// RNG tiap tile diturunkan dari seed + indeks tile, sehingga hasil sama berapa pun thread-nya.
+public class ParallelMazeGenerator {
+    public static final int DEFAULT_TILE_SIZE = 256;
+    private static final int LOOP_PERCENT = 10;
+
+    private final int width;
+    private final int height;
+    private final long seed;
+    private int tileSize = DEFAULT_TILE_SIZE;
+    private GenerationStrategy strategy = new BacktrackerStrategy();
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private double lastCellsPerSecond;
+
+    public ParallelMazeGenerator(int width, int height, long seed) {
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+    }
+
+    public void setTileSize(int tileSize) { this.tileSize = tileSize; }
+    public void setStrategy(GenerationStrategy strategy) { this.strategy = strategy; }
+    public void setPool(ForkJoinPool pool) { this.pool = pool; }
+
+    public double getLastCellsPerSecond() { return lastCellsPerSecond; }
+
+    public Maze generateMaze() {
+        MazeEvents.Generate event = new MazeEvents.Generate();
+        event.begin();
+        long start = System.nanoTime();
+        Maze maze = new Maze(width, height);
+        maze.setSeed(seed);
+        int tilesX = (width + tileSize - 1) / tileSize;
+        int tilesY = (height + tileSize - 1) / tileSize;
+
+        pool.invoke(new TileTask(maze, tilesX, 0, tilesX * tilesY));
+        stitch(maze, tilesX, tilesY);
+
+        double secs = (System.nanoTime() - start) / 1e9;
+        lastCellsPerSecond = maze.size() / Math.max(secs, 1e-9);
+        event.end();
+        if (event.shouldCommit()) {
+            event.width = width;
+            event.height = height;
+            event.generator = strategy.getName();
+            event.seed = seed;
+            event.threads = pool.getParallelism();
+            event.commit();
+        }
+        return maze;
+    }
+
+    private SplittableRandom tileRandom(long tile) {
+        return MazeGenerator.stream(seed, tile);
+    }
+
+    private class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int THRESHOLD = 2;
+        private final Maze maze;
+        private final int tilesX, from, to;
+
+        TileTask(Maze maze, int tilesX, int from, int to) {
+            this.maze = maze;
+            this.tilesX = tilesX;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new TileTask(maze, tilesX, from, mid), new TileTask(maze, tilesX, mid, to));
+                return;
+            }
+            for (int t = from; t < to; t++) {
+                int ox = (t % tilesX) * tileSize, oy = (t / tilesX) * tileSize;
+                Maze tile = new Maze(Math.min(tileSize, width - ox), Math.min(tileSize, height - oy));
+                SplittableRandom random = tileRandom(t);
+                strategy.carve(tile, random);
+                MazeGenerator.addLoops(tile, LOOP_PERCENT, random);
+                maze.pasteWalls(tile, ox, oy);
+            }
+        }
+    }
+
+    // Sambungan k: horizontal (tile t dengan tile kanannya) = t * 2, vertikal (dengan bawahnya) = t * 2 + 1
+    private void stitch(Maze maze, int tilesX, int tilesY) {
+        int tiles = tilesX * tilesY;
+        SplittableRandom random = tileRandom(-1);
+
+        int[] seams = new int[tiles * 2];
+        int count = 0;
+        for (int t = 0; t < tiles; t++) {
+            if (t % tilesX < tilesX - 1) seams[count++] = t * 2;
+            if (t / tilesX < tilesY - 1) seams[count++] = t * 2 + 1;
+        }
+        for (int k = count - 1; k > 0; k--) {
+            int j = random.nextInt(k + 1);
+            int tmp = seams[k]; seams[k] = seams[j]; seams[j] = tmp;
+        }
+
+        int[] parent = new int[tiles];
+        for (int t = 0; t < tiles; t++) parent[t] = t;
+
+        for (int k = 0; k < count; k++) {
+            int t = seams[k] >>> 1;
+            boolean horizontal = (seams[k] & 1) == 0;
+            int other = horizontal ? t + 1 : t + tilesX;
+            int a = find(parent, t), b = find(parent, other);
+            if (a != b) {
+                parent[b] = a;
+                openAcross(maze, t, tilesX, horizontal, random);
+            }
+        }
+
+        // Loop di sepanjang seam dengan kepadatan per dinding yang sama seperti di dalam tile
+        for (int t = 0; t < tiles; t++) {
+            int ox = (t % tilesX) * tileSize, oy = (t / tilesX) * tileSize;
+            int right = ox + tileSize - 1, bottom = oy + tileSize - 1;
+            if (right < width - 1) {
+                for (int y = oy; y < Math.min(oy + tileSize, height); y++) {
+                    if (random.nextInt(200) < LOOP_PERCENT) maze.removeWall(maze.index(right, y), Maze.RIGHT);
+                }
+            }
+            if (bottom < height - 1) {
+                for (int x = ox; x < Math.min(ox + tileSize, width); x++) {
+                    if (random.nextInt(200) < LOOP_PERCENT) maze.removeWall(maze.index(x, bottom), Maze.BOTTOM);
+                }
+            }
+        }
+    }
+
+    private void openAcross(Maze maze, int t, int tilesX, boolean horizontal, SplittableRandom random) {
+        int ox = (t % tilesX) * tileSize, oy = (t / tilesX) * tileSize;
+        if (horizontal) {
+            int span = Math.min(tileSize, height - oy);
+            maze.removeWall(maze.index(ox + tileSize - 1, oy + random.nextInt(span)), Maze.RIGHT);
+        } else {
+            int span = Math.min(tileSize, width - ox);
+            maze.removeWall(maze.index(ox + random.nextInt(span), oy + tileSize - 1), Maze.BOTTOM);
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
@@ -0,0 +1,92 @@
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Cache LRU hasil solve, dikunci (maze, revisi, start, tujuan, algoritma). Begitu maze diganti
+// atau revisinya naik (acak medan, ubah dinding), seluruh isi cache dibuang otomatis.
+public class PathCache {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    // Hasil yang di-cache beserta statistik saat pertama kali dihitung
+    public static class Entry {
+        public final List<Cell> path;
+        public final SearchStats stats;
+        public final double millis;
+
+        public Entry(List<Cell> path, SearchStats stats, double millis) {
+            this.path = Collections.unmodifiableList(path);
+            this.stats = stats;
+            this.millis = millis;
+        }
+    }
+
+    private static class Key {
+        final String algorithm;
+        final int start, end;
+
+        Key(String algorithm, int start, int end) {
+            this.algorithm = algorithm;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return k.start == start && k.end == end && k.algorithm.equals(algorithm);
+        }
+
+        @Override
+        public int hashCode() {
+            return (algorithm.hashCode() * 31 + start) * 31 + end;
+        }
+    }
+
+    private final LinkedHashMap<Key, Entry> entries;
+    private Maze maze;
+    private long revision;
+    private long hits, misses;
+
+    public PathCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PathCache(int capacity) {
+        entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public synchronized Entry get(Maze maze, String algorithm, Cell start, Cell end) {
+        validate(maze);
+        Entry e = entries.get(new Key(algorithm, start.index(), end.index()));
+        if (e != null) hits++;
+        else misses++;
+        return e;
+    }
+
+    // revision = revisi maze saat solve dimulai (dibaca sebelum solve). Jika maze sudah berubah
+    // selama solve, hasilnya dihitung dari data lama dan dibuang, bukan disimpan di revisi baru.
+    public synchronized void put(Maze maze, long revision, String algorithm, Cell start, Cell end, Entry entry) {
+        validate(maze);
+        if (revision != this.revision) return;
+        entries.put(new Key(algorithm, start.index(), end.index()), entry);
+    }
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized int size() { return entries.size(); }
+
+    private void validate(Maze maze) {
+        if (maze != this.maze || maze.getRevision() != revision) {
+            entries.clear();
+            this.maze = maze;
+            this.revision = maze.getRevision();
+        }
+    }
+}
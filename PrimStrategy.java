@@ -0,0 +1,54 @@
+import java.util.SplittableRandom;
+
+// Prim acak (versi frontier sel): ambil sel frontier acak, sambungkan ke salah satu
+// tetangga yang sudah masuk labirin. Banyak cabang pendek, kebalikan dari backtracker.
+public class PrimStrategy implements GenerationStrategy {
+    private static final byte OUT = 0, FRONTIER = 1, IN = 2;
+
+    @Override
+    public String getName() { return "Prim"; }
+
+    @Override
+    public void carve(Maze maze, SplittableRandom random) {
+        int width = maze.getWidth(), height = maze.getHeight();
+        byte[] state = new byte[maze.size()];
+        int[] frontier = new int[maze.size()];
+        int size = 0;
+
+        int start = random.nextInt(maze.size());
+        state[start] = IN;
+        size = addFrontier(start, width, height, state, frontier, size);
+
+        while (size > 0) {
+            // Hapus sel acak dari frontier dengan swap-remove
+            int k = random.nextInt(size);
+            int cell = frontier[k];
+            frontier[k] = frontier[--size];
+
+            int x = cell % width, y = cell / width;
+            int dir = -1, seen = 0;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + Maze.DX[d], ny = y + Maze.DY[d];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+                if (state[ny * width + nx] != IN) continue;
+                if (random.nextInt(++seen) == 0) dir = d;
+            }
+            maze.removeWall(cell, dir);
+            state[cell] = IN;
+            size = addFrontier(cell, width, height, state, frontier, size);
+        }
+    }
+
+    private static int addFrontier(int cell, int width, int height, byte[] state, int[] frontier, int size) {
+        int x = cell % width, y = cell / width;
+        for (int d = 0; d < 4; d++) {
+            int nx = x + Maze.DX[d], ny = y + Maze.DY[d];
+            if (nx < 0 || ny < 0 || nx >= width || ny >= height) continue;
+            int j = ny * width + nx;
+            if (state[j] != OUT) continue;
+            state[j] = FRONTIER;
+            frontier[size++] = j;
+        }
+        return size;
+    }
+}
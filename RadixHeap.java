@@ -0,0 +1,90 @@
+import java.util.Arrays;
+
+// Radix heap untuk kunci int non-negatif sembarang: fallback Dial saat bobot terlalu besar
+// untuk bucket melingkar. Bucket i menampung kunci yang bit tertinggi bedanya dengan
+// kunci terakhir yang di-pop adalah bit i-1; tiap elemen turun bucket paling banyak 32 kali.
+public class RadixHeap implements MonotoneQueue {
+    private static final int BUCKETS = 33;
+
+    private final int[] head = new int[BUCKETS];
+    private final int[] next;
+    private final int[] prev;
+    private final int[] keys;
+    private final byte[] bucketOf;
+    private int last;
+    private int size;
+
+    public RadixHeap(int capacity) {
+        next = new int[capacity];
+        prev = new int[capacity];
+        keys = new int[capacity];
+        bucketOf = new byte[capacity];
+        Arrays.fill(head, -1);
+    }
+
+    @Override
+    public void push(int id, int key) {
+        keys[id] = key;
+        link(id, bucketFor(key));
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int id, int key) {
+        unlink(id);
+        keys[id] = key;
+        link(id, bucketFor(key));
+    }
+
+    @Override
+    public int pop() {
+        if (head[0] == -1) {
+            int b = 1;
+            while (head[b] == -1) b++;
+
+            int min = Integer.MAX_VALUE;
+            for (int id = head[b]; id != -1; id = next[id]) min = Math.min(min, keys[id]);
+            last = min;
+
+            int id = head[b];
+            head[b] = -1;
+            while (id != -1) {
+                int following = next[id];
+                link(id, bucketFor(keys[id]));
+                id = following;
+            }
+        }
+        int id = head[0];
+        unlink(id);
+        size--;
+        return id;
+    }
+
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    @Override
+    public void clear() {
+        Arrays.fill(head, -1);
+        last = 0;
+        size = 0;
+    }
+
+    private int bucketFor(int key) {
+        return key == last ? 0 : 32 - Integer.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void link(int id, int b) {
+        bucketOf[id] = (byte) b;
+        prev[id] = -1;
+        next[id] = head[b];
+        if (head[b] != -1) prev[head[b]] = id;
+        head[b] = id;
+    }
+
+    private void unlink(int id) {
+        if (prev[id] != -1) next[prev[id]] = next[id];
+        else head[bucketOf[id]] = next[id];
+        if (next[id] != -1) prev[next[id]] = prev[id];
+    }
+}
@@ -0,0 +1,110 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+// State satu pencarian (parent, cost, frontier, stempel kunjungan, antrean prioritas).
+// Maze tidak pernah ditulis saat mencari, jadi banyak thread bisa memakai satu Maze yang
+// sama asalkan masing-masing memakai SearchContext sendiri. Context boleh dipakai ulang
+// antar-query pada thread yang sama tanpa alokasi baru, juga antar-maze selama kapasitasnya cukup.
+public class SearchContext {
+    // Bobot maksimum yang masih ditangani bucket melingkar Dial; di atasnya pakai radix heap
+    private static final int DIAL_MAX_WEIGHT = 64;
+    // Heap per sel untuk context yang sudah dipakai semua algoritma: sisi maju dan mundur
+    // (4 int[] + IndexedMinHeap = 32 byte masing-masing) plus bucket Dial dan radix heap (12 byte)
+    public static final int BYTES_PER_CELL = 2 * 32 + 2 * 12;
+
+    // Satu context per thread untuk semua MazeSolver. ThreadLocal per solver membuat context
+    // maze lama tetap hidup di tiap thread pool setelah solvernya dibuang.
+    private static final ThreadLocal<SearchContext> PER_THREAD = new ThreadLocal<>();
+    private static final AtomicLong PER_THREAD_CELLS = new AtomicLong();
+
+    final int[] parent;
+    final int[] cost;
+    final int[] frontier;
+    final int[] mark;
+    final IndexedMinHeap open;
+    // Sisi mundur untuk pencarian dua arah, dialokasikan saat pertama dibutuhkan
+    int[] parentB, costB, frontierB, markB;
+    IndexedMinHeap openB;
+    final SearchStats stats = new SearchStats();
+    private int epoch = 0;
+    private BucketQueue buckets;
+    private RadixHeap radix;
+    // Pencarian lokal HPA* di dalam satu cluster, dibuat saat query HPA* pertama
+    private HierarchicalPathfinder.LocalSearch hpaLocal;
+
+    public SearchContext(int cells) {
+        parent = new int[cells];
+        cost = new int[cells];
+        frontier = new int[cells];
+        mark = new int[cells];
+        open = new IndexedMinHeap(cells);
+    }
+
+    public int capacity() { return mark.length; }
+
+    // Context thread ini untuk maze berisi `cells` sel. Dipakai ulang kalau kapasitasnya cukup
+    // dan tidak lebih dari 4x kebutuhan (maze besar yang sudah lewat tidak ditahan selamanya);
+    // selain itu yang lama dilepas dulu sebelum yang baru dialokasikan.
+    public static SearchContext forCurrentThread(int cells) {
+        SearchContext ctx = PER_THREAD.get();
+        if (ctx != null && ctx.capacity() >= cells && ctx.capacity() / 4 <= cells) return ctx;
+        if (ctx != null) {
+            PER_THREAD.remove();
+            PER_THREAD_CELLS.addAndGet(-ctx.capacity());
+        }
+        SearchContext fresh = new SearchContext(cells);
+        PER_THREAD.set(fresh);
+        PER_THREAD_CELLS.addAndGet(fresh.capacity());
+        return fresh;
+    }
+
+    // Perkiraan heap yang dipegang context per thread; solve berikutnya memakai ulang atau
+    // menggantinya, jadi bisa dihitung sebagai heap yang tersedia
+    public static long perThreadBytes() {
+        return PER_THREAD_CELLS.get() * BYTES_PER_CELL;
+    }
+
+    // Jumlah node yang diekspansi oleh pencarian terakhir dengan context ini
+    public int getExpanded() { return (int) stats.expanded; }
+
+    // Statistik pencarian terakhir (objek milik context, ditimpa oleh pencarian berikutnya)
+    public SearchStats getStats() { return stats; }
+
+    void ensureBackward() {
+        if (markB != null) return;
+        int cells = capacity();
+        parentB = new int[cells];
+        costB = new int[cells];
+        frontierB = new int[cells];
+        markB = new int[cells];
+        openB = new IndexedMinHeap(cells);
+    }
+
+    // Mengembalikan stempel "sudah dilihat"; stempel + 1 dipakai untuk "sudah ditutup"
+    int beginSearch() {
+        if (epoch >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(mark, 0);
+            if (markB != null) Arrays.fill(markB, 0);
+            epoch = 0;
+        }
+        epoch += 2;
+        stats.reset();
+        return epoch;
+    }
+
+    HierarchicalPathfinder.LocalSearch localSearch(int area) {
+        if (hpaLocal == null || hpaLocal.area() < area) hpaLocal = new HierarchicalPathfinder.LocalSearch(area);
+        return hpaLocal;
+    }
+
+    MonotoneQueue monotoneQueue(int maxWeight) {
+        if (maxWeight <= DIAL_MAX_WEIGHT) {
+            if (buckets == null || buckets.getMaxEdgeWeight() < maxWeight) {
+                buckets = new BucketQueue(capacity(), maxWeight);
+            }
+            return buckets;
+        }
+        if (radix == null) radix = new RadixHeap(capacity());
+        return radix;
+    }
+}
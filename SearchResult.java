@@ -0,0 +1,12 @@
+import java.util.List;
+
+// Jalur hasil solve beserta statistik pencariannya (salinan, aman disimpan/dikirim ke thread lain)
+public class SearchResult {
+    public final List<Cell> path;
+    public final SearchStats stats;
+
+    public SearchResult(List<Cell> path, SearchStats stats) {
+        this.path = path;
+        this.stats = stats;
+    }
+}
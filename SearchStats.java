@@ -0,0 +1,62 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Statistik satu pencarian, diisi langsung oleh loop solver (hanya penambahan field, tanpa alokasi).
+// expanded  = node yang di-pop dan diproses; generated = langkah ke tetangga yang diperiksa;
+// frontierPeak = ukuran frontier (antrean/heap/stack, kedua sisi untuk dua arah) terbesar;
+// push/pop/decreaseKey = operasi struktur frontier; allocatedBytes = alokasi thread selama solve
+// (-1 jika JVM tidak mendukung penghitung alokasi per thread).
+public class SearchStats {
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATION_SUPPORTED = allocationSupported();
+
+    public long expanded;
+    public long generated;
+    public long frontierPeak;
+    public long pushes;
+    public long pops;
+    public long decreaseKeys;
+    public long allocatedBytes = -1;
+
+    void reset() {
+        expanded = generated = frontierPeak = pushes = pops = decreaseKeys = 0;
+        allocatedBytes = -1;
+    }
+
+    // Dipanggil loop solver setelah pops++: tiap 4096 pop cek apakah thread diinterupsi
+    // (Future.cancel), supaya solve yang dibatalkan berhenti cepat dengan jalur kosong
+    boolean cancelled() {
+        return (pops & 0xFFF) == 0 && Thread.currentThread().isInterrupted();
+    }
+
+    void push(int frontierSize) {
+        pushes++;
+        if (frontierSize > frontierPeak) frontierPeak = frontierSize;
+    }
+
+    public SearchStats copy() {
+        SearchStats s = new SearchStats();
+        s.expanded = expanded;
+        s.generated = generated;
+        s.frontierPeak = frontierPeak;
+        s.pushes = pushes;
+        s.pops = pops;
+        s.decreaseKeys = decreaseKeys;
+        s.allocatedBytes = allocatedBytes;
+        return s;
+    }
+
+    private static boolean allocationSupported() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) return false;
+        com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean) THREADS;
+        if (!t.isThreadAllocatedMemorySupported()) return false;
+        if (!t.isThreadAllocatedMemoryEnabled()) t.setThreadAllocatedMemoryEnabled(true);
+        return true;
+    }
+
+    // Penghitung alokasi kumulatif thread saat ini (byte), atau -1
+    static long threadAllocatedBytes() {
+        if (!ALLOCATION_SUPPORTED) return -1;
+        return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+    }
+}
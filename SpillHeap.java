@@ -0,0 +1,96 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Binary min-heap yang isinya tinggal di file scratch ter-mmap, bukan di heap Java.
+// Entri = 3 long (f, g, payload); urut f kecil dulu, seri -> g besar dulu (lebih dekat tujuan).
+// File tumbuh per chunk 1M entri (24 MB) dan dihapus saat close().
+public class SpillHeap implements Closeable {
+    private static final int ENTRY_LONGS = 3;
+    private static final int CHUNK_ENTRIES = 1 << 20;
+
+    private final FileChannel channel;
+    private final List<LongBuffer> chunks = new ArrayList<>();
+    private long size;
+    private long poppedF, poppedG;
+
+    public SpillHeap(Path scratchDir) throws IOException {
+        Path file = Files.createTempFile(scratchDir, "frontier", ".tmp");
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public long size() { return size; }
+
+    public void push(long f, long g, long payload) throws IOException {
+        long i = size++;
+        if (i / CHUNK_ENTRIES >= chunks.size()) grow();
+        while (i > 0) {
+            long p = (i - 1) >>> 1;
+            if (!less(f, g, key(p, 0), key(p, 1))) break;
+            copy(p, i);
+            i = p;
+        }
+        set(i, f, g, payload);
+    }
+
+    // Mengembalikan payload entri terkecil; f dan g-nya lewat getPoppedF/getPoppedG
+    public long pop() {
+        poppedF = key(0, 0);
+        poppedG = key(0, 1);
+        long payload = key(0, 2);
+        long last = --size;
+        if (last > 0) {
+            long f = key(last, 0), g = key(last, 1), pl = key(last, 2);
+            long i = 0;
+            while (true) {
+                long c = 2 * i + 1;
+                if (c >= last) break;
+                if (c + 1 < last && less(key(c + 1, 0), key(c + 1, 1), key(c, 0), key(c, 1))) c++;
+                if (!less(key(c, 0), key(c, 1), f, g)) break;
+                copy(c, i);
+                i = c;
+            }
+            set(i, f, g, pl);
+        }
+        return payload;
+    }
+
+    public long getPoppedF() { return poppedF; }
+    public long getPoppedG() { return poppedG; }
+
+    private static boolean less(long f1, long g1, long f2, long g2) {
+        return f1 < f2 || (f1 == f2 && g1 > g2);
+    }
+
+    private long key(long i, int k) {
+        return chunks.get((int) (i / CHUNK_ENTRIES)).get((int) (i % CHUNK_ENTRIES) * ENTRY_LONGS + k);
+    }
+
+    private void set(long i, long f, long g, long payload) {
+        LongBuffer chunk = chunks.get((int) (i / CHUNK_ENTRIES));
+        int at = (int) (i % CHUNK_ENTRIES) * ENTRY_LONGS;
+        chunk.put(at, f).put(at + 1, g).put(at + 2, payload);
+    }
+
+    private void copy(long from, long to) {
+        set(to, key(from, 0), key(from, 1), key(from, 2));
+    }
+
+    private void grow() throws IOException {
+        long bytes = (long) CHUNK_ENTRIES * ENTRY_LONGS * Long.BYTES;
+        chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, chunks.size() * bytes, bytes).asLongBuffer());
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunks.clear();
+        channel.close();
+    }
+}
@@ -0,0 +1,7 @@
+// Sumber medan: menulis bobot satu baris langsung ke penyimpanan medan Maze.
+// Harus deterministik per (seed, y) dan tanpa state bersama, karena baris diisi paralel.
+public interface TerrainGenerator {
+    String getName();
+
+    void fillRow(long seed, int y, int width, byte[] out, int offset);
+}
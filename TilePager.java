@@ -0,0 +1,65 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Akses byte ke bagian file yang (jauh) lebih besar dari heap: file dipecah menjadi tile
+// berukuran tetap yang dipetakan (mmap) sesuai kebutuhan dan disimpan di cache LRU.
+// Tile terakhir diingat terpisah agar akses berurutan di tile yang sama tidak lewat map.
+// Tile yang dikeluarkan dari LRU dilepas oleh GC; isinya tetap aman di page cache/file.
+// Tidak thread-safe: satu pager per pencarian.
+public class TilePager {
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private final long base;
+    private final long length;
+    private final int tileBytes;
+    private final Map<Long, MappedByteBuffer> cache;
+
+    private long lastTile = -1;
+    private MappedByteBuffer lastBuffer;
+    private long faults, hits;
+
+    public TilePager(FileChannel channel, FileChannel.MapMode mode, long base, long length, int tileBytes, int maxTiles) {
+        this.channel = channel;
+        this.mode = mode;
+        this.base = base;
+        this.length = length;
+        this.tileBytes = tileBytes;
+        this.cache = new LinkedHashMap<Long, MappedByteBuffer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MappedByteBuffer> eldest) {
+                return size() > maxTiles;
+            }
+        };
+    }
+
+    public byte get(long offset) throws IOException {
+        return tile(offset / tileBytes).get((int) (offset % tileBytes));
+    }
+
+    public void put(long offset, byte value) throws IOException {
+        tile(offset / tileBytes).put((int) (offset % tileBytes), value);
+    }
+
+    private MappedByteBuffer tile(long t) throws IOException {
+        if (t == lastTile) return lastBuffer;
+        MappedByteBuffer buffer = cache.get(t);
+        if (buffer != null) {
+            hits++;
+        } else {
+            faults++;
+            long start = t * tileBytes;
+            buffer = channel.map(mode, base + start, Math.min(tileBytes, length - start));
+            cache.put(t, buffer);
+        }
+        lastTile = t;
+        lastBuffer = buffer;
+        return buffer;
+    }
+
+    // Hanya pergantian tile yang dihitung; akses di tile yang sama dengan sebelumnya gratis
+    public long getFaults() { return faults; }
+    public long getHits() { return hits; }
+}
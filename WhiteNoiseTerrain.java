@@ -0,0 +1,13 @@
+import java.util.SplittableRandom;
+
+// Medan lama: bobot tiap sel diacak sendiri-sendiri (60% normal, 30% lumpur, 10% air)
+public class WhiteNoiseTerrain implements TerrainGenerator {
+    @Override
+    public String getName() { return "Acak"; }
+
+    @Override
+    public void fillRow(long seed, int y, int width, byte[] out, int offset) {
+        SplittableRandom random = MazeGenerator.stream(seed, y);
+        for (int i = offset, end = offset + width; i < end; i++) out[i] = (byte) Maze.randomTerrainWeight(random);
+    }
+}
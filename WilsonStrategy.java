@@ -0,0 +1,41 @@
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+// Algoritma Wilson: random walk dari sel di luar pohon sampai menyentuh pohon, lalu jalur
+// loop-erased-nya ditambahkan. Penghapusan loop cukup dengan menimpa arah terakhir per sel
+// (byte[] dir). Hasilnya spanning tree seragam (tanpa bias), tapi walk awal bisa lama.
+public class WilsonStrategy implements GenerationStrategy {
+    @Override
+    public String getName() { return "Wilson"; }
+
+    @Override
+    public void carve(Maze maze, SplittableRandom random) {
+        int width = maze.getWidth(), height = maze.getHeight();
+        int n = maze.size();
+        BitSet inTree = new BitSet(n);
+        byte[] dir = new byte[n];
+        inTree.set(random.nextInt(n));
+
+        for (int start = inTree.nextClearBit(0); start < n; start = inTree.nextClearBit(start + 1)) {
+            int cell = start;
+            while (!inTree.get(cell)) {
+                int x = cell % width, y = cell / width;
+                int d, nx, ny;
+                do {
+                    d = random.nextInt(4);
+                    nx = x + Maze.DX[d];
+                    ny = y + Maze.DY[d];
+                } while (nx < 0 || ny < 0 || nx >= width || ny >= height);
+                dir[cell] = (byte) d;
+                cell = ny * width + nx;
+            }
+
+            cell = start;
+            while (!inTree.get(cell)) {
+                inTree.set(cell);
+                maze.removeWall(cell, dir[cell]);
+                cell = maze.neighbor(cell, dir[cell]);
+            }
+        }
+    }
+}
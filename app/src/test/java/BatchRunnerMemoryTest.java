@@ -0,0 +1,37 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Regresi: tiap maze dulu meninggalkan SearchContext penuh (~88 byte/sel) di thread worker,
+// jadi batch 1000x1000 dengan -Xmx200m kehabisan heap di maze ketiga. Dijalankan di JVM
+// terpisah supaya batas heap-nya kecil dan pasti.
+class BatchRunnerMemoryTest {
+
+    @Test
+    void manyMazesFitInSmallHeap() throws Exception {
+        Path out = Files.createTempFile("batch", ".csv");
+        try {
+            String classes = new File(BatchRunner.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+            String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            Process p = new ProcessBuilder(java, "-Xmx200m", "-cp", classes, "BatchRunner",
+                    "--sizes", "1000x1000", "--count", "4", "--threads", "1", "--algos", "Bi-A*,Dial", "--out", out.toString())
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            assertTrue(p.waitFor(2, TimeUnit.MINUTES), "BatchRunner tidak selesai");
+            assertEquals(0, p.exitValue(), "BatchRunner gagal (OutOfMemoryError?)");
+
+            List<String> lines = Files.readAllLines(out);
+            assertEquals(1 + 4 * 2, lines.size());
+        } finally {
+            Files.deleteIfExists(out);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Jejak memori yang dijanjikan Maze: BYTES_PER_CELL (2 byte) per sel, bukan ~80+ byte per
+// objek Cell seperti grid lama.
+class MazeFootprintTest {
+    private static final int SIDE = 1000;
+
+    @Test
+    void footprintIsBytesPerCellTimesCells() {
+        Maze maze = new Maze(37, 53);
+        assertEquals(37L * 53 * Maze.BYTES_PER_CELL, maze.getFootprintBytes());
+        assertEquals(37 * 53, maze.size());
+    }
+
+    // Alokasi thread saat membuat maze: hanya dua buffer byte[] plus header objek
+    @Test
+    void constructorAllocatesOnlyTheCellBuffers() {
+        new Maze(2, 2); // muat class dulu agar tidak ikut terhitung
+        long before = SearchStats.threadAllocatedBytes();
+        Maze maze = new Maze(SIDE, SIDE);
+        long after = SearchStats.threadAllocatedBytes();
+        if (before < 0 || after < 0) return;
+
+        long budget = (long) SIDE * SIDE * Maze.BYTES_PER_CELL;
+        assertEquals(budget, maze.getFootprintBytes());
+        assertTrue(after - before <= budget + 4096, "alokasi " + (after - before) + " byte, anggaran " + budget);
+    }
+
+    // Maze hasil generate yang tetap hidup di heap: jauh di bawah grid objek lama (80 MB)
+    @Test
+    void generatedMazeStaysWithinBudget() {
+        long before = usedHeap();
+        Maze maze = new MazeGenerator(SIDE, SIDE, MazeGenerator.STRATEGIES[0], 1).generateMaze();
+        long retained = usedHeap() - before;
+
+        long budget = maze.getFootprintBytes();
+        assertEquals((long) SIDE * SIDE * Maze.BYTES_PER_CELL, budget);
+        // Kelonggaran untuk objek lain yang kebetulan hidup saat GC (class, JIT, surefire)
+        assertTrue(retained <= budget + (1 << 20), "tertahan " + retained + " byte, anggaran " + budget);
+        assertTrue(maze.canMove(maze.index(0, 0), Maze.RIGHT) || maze.canMove(maze.index(0, 0), Maze.BOTTOM));
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
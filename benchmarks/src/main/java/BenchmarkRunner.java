@@ -0,0 +1,176 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Harness mikro gaya JMH (mode avgt, ms/op). JMH sendiri tidak bisa dipakai karena annotation
+// processor-nya menolak kelas benchmark di default package, sedangkan semua kelas aplikasi ada
+// di sana. Tiap kasus: setup sekali, beberapa iterasi warmup lalu iterasi pengukuran berdurasi
+// tetap; hasil tiap operasi dimasukkan ke sink volatile agar tidak dihapus JIT.
+// Output JSON mengikuti bentuk hasil JMH (benchmark, params, primaryMetric) supaya bisa dibaca
+// alat yang sama.
+public class BenchmarkRunner {
+    public interface Body {
+        Object run() throws Exception;
+    }
+
+    public interface Setup {
+        Body prepare() throws Exception;
+    }
+
+    private static class Case {
+        final String name;
+        final Map<String, String> params;
+        final Setup setup;
+
+        Case(String name, Map<String, String> params, Setup setup) {
+            this.name = name;
+            this.params = params;
+            this.setup = setup;
+        }
+
+        String label() {
+            return params.isEmpty() ? name : name + params;
+        }
+    }
+
+    private static class Result {
+        final Case c;
+        final double[] scores;
+
+        Result(Case c, double[] scores) {
+            this.c = c;
+            this.scores = scores;
+        }
+
+        double mean() {
+            double sum = 0;
+            for (double s : scores) sum += s;
+            return sum / scores.length;
+        }
+
+        // Setengah lebar interval ~99,9% (aproksimasi normal) seperti kolom "Error" JMH
+        double error() {
+            if (scores.length < 2) return Double.NaN;
+            double m = mean(), var = 0;
+            for (double s : scores) var += (s - m) * (s - m);
+            return 3.291 * Math.sqrt(var / (scores.length - 1)) / Math.sqrt(scores.length);
+        }
+    }
+
+    public static volatile int sink;
+
+    private final List<Case> cases = new ArrayList<>();
+    private int warmupIterations = 3;
+    private int measurementIterations = 5;
+    private long iterationMillis = 200;
+
+    public static Map<String, String> params(String... keyValues) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) map.put(keyValues[i], keyValues[i + 1]);
+        return map;
+    }
+
+    public void add(String name, Map<String, String> params, Setup setup) {
+        cases.add(new Case(name, params, setup));
+    }
+
+    // Argumen: [regex filter] [-wi n] [-i n] [-t ms per iterasi] [-o file.json]
+    public void run(String[] args) throws Exception {
+        Pattern filter = null;
+        Path output = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-wi": warmupIterations = Integer.parseInt(args[++i]); break;
+                case "-i": measurementIterations = Integer.parseInt(args[++i]); break;
+                case "-t": iterationMillis = Long.parseLong(args[++i]); break;
+                case "-o": output = Path.of(args[++i]); break;
+                default: filter = Pattern.compile(args[i]);
+            }
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Case c : cases) {
+            if (filter != null && !filter.matcher(c.label()).find()) continue;
+            System.gc();
+            Body body = c.setup.prepare();
+            for (int i = 0; i < warmupIterations; i++) iteration(body);
+            double[] scores = new double[measurementIterations];
+            for (int i = 0; i < measurementIterations; i++) scores[i] = iteration(body);
+            Result r = new Result(c, scores);
+            results.add(r);
+            System.out.printf("%-60s %12.4f +- %8.4f ms/op%n", c.label(), r.mean(), r.error());
+        }
+
+        if (output != null) {
+            writeJson(results, output);
+            System.out.println("Hasil JSON: " + output);
+        }
+    }
+
+    // Satu iterasi: ulangi body sampai durasi iterasi habis (minimal sekali), kembalikan ms/op
+    private double iteration(Body body) throws Exception {
+        long deadline = System.nanoTime() + iterationMillis * 1_000_000L;
+        long start = System.nanoTime(), ops = 0, now;
+        do {
+            Object result = body.run();
+            sink ^= result == null ? 0 : System.identityHashCode(result);
+            ops++;
+            now = System.nanoTime();
+        } while (now < deadline);
+        return (now - start) / 1e6 / ops;
+    }
+
+    private void writeJson(List<Result> results, Path output) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(output, StandardCharsets.UTF_8))) {
+            out.println("[");
+            for (int k = 0; k < results.size(); k++) {
+                Result r = results.get(k);
+                out.println("    {");
+                out.println("        \"benchmark\" : " + quote(r.c.name) + ",");
+                out.println("        \"mode\" : \"avgt\",");
+                out.println("        \"threads\" : 1,");
+                out.println("        \"forks\" : 0,");
+                out.println("        \"jdkVersion\" : " + quote(System.getProperty("java.version")) + ",");
+                out.println("        \"vmName\" : " + quote(System.getProperty("java.vm.name")) + ",");
+                out.println("        \"warmupIterations\" : " + warmupIterations + ",");
+                out.println("        \"warmupTime\" : \"" + iterationMillis + " ms\",");
+                out.println("        \"measurementIterations\" : " + measurementIterations + ",");
+                out.println("        \"measurementTime\" : \"" + iterationMillis + " ms\",");
+                StringBuilder params = new StringBuilder();
+                for (Map.Entry<String, String> e : r.c.params.entrySet()) {
+                    if (params.length() > 0) params.append(", ");
+                    params.append(quote(e.getKey())).append(" : ").append(quote(e.getValue()));
+                }
+                out.println("        \"params\" : {" + params + "},");
+                StringBuilder raw = new StringBuilder();
+                for (double s : r.scores) {
+                    if (raw.length() > 0) raw.append(", ");
+                    raw.append(number(s));
+                }
+                out.println("        \"primaryMetric\" : {");
+                out.println("            \"score\" : " + number(r.mean()) + ",");
+                out.println("            \"scoreError\" : " + number(r.error()) + ",");
+                out.println("            \"scoreUnit\" : \"ms/op\",");
+                out.println("            \"rawData\" : [[" + raw + "]]");
+                out.println("        }");
+                out.println(k + 1 < results.size() ? "    }," : "    }");
+            }
+            out.println("]");
+        }
+    }
+
+    private static String number(double d) {
+        return Double.isNaN(d) ? "\"NaN\"" : Double.toString(d);
+    }
+
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,87 @@
+import java.util.*;
+
+// Membandingkan Dijkstra lama (PriorityQueue + remove O(n) + HashMap) dengan
+// IndexedMinHeap (decrease-key O(log n)) pada labirin terbuka yang makin besar.
+// Jalankan: java -cp benchmarks/target/benchmarks.jar HeapBenchmark [ukuran...]
+public class HeapBenchmark {
+    private static final int LOOP_PERCENT = 40;
+
+    public static void main(String[] args) {
+        int[] sizes = {50, 100, 200, 400};
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) sizes[i] = Integer.parseInt(args[i]);
+        }
+
+        System.out.printf("%-10s %14s %14s %10s%n", "Ukuran", "PQ lama (ms)", "Indexed (ms)", "Speedup");
+        for (int size : sizes) {
+            Maze maze = openMaze(size, new Random(size));
+            MazeSolver solver = new MazeSolver(maze);
+            Cell start = maze.cell(0, 0);
+            Cell end = maze.cell(size - 1, size - 1);
+
+            double legacy = time(() -> legacyDijkstra(maze, start, end));
+            double indexed = time(() -> solver.solveDijkstra(start, end));
+            System.out.printf("%-10s %14.2f %14.2f %9.1fx%n", size + "x" + size, legacy, indexed, legacy / indexed);
+        }
+    }
+
+    // Labirin dengan banyak loop: banyak decrease-key dan antrean prioritas yang besar
+    private static Maze openMaze(int size, Random random) {
+        Maze maze = new MazeGenerator(size, size, new BacktrackerStrategy(), size).generateMaze();
+        int extra = size * size * LOOP_PERCENT / 100;
+        for (int i = 0; i < extra; i++) {
+            maze.removeWall(random.nextInt(size - 1), random.nextInt(size - 1), random.nextBoolean() ? Maze.RIGHT : Maze.BOTTOM);
+        }
+        maze.randomizeTerrain(size);
+        return maze;
+    }
+
+    private static double time(Runnable task) {
+        for (int i = 0; i < 3; i++) task.run();
+        int runs = 5;
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) task.run();
+        return (System.nanoTime() - start) / 1_000_000.0 / runs;
+    }
+
+    // Salinan implementasi Dijkstra sebelum IndexedMinHeap, sebagai pembanding
+    private static List<Cell> legacyDijkstra(Maze maze, Cell start, Cell end) {
+        Set<Cell> visited = new HashSet<>();
+        Map<Cell, Integer> costMap = new HashMap<>();
+        Map<Cell, Cell> parentMap = new HashMap<>();
+
+        PriorityQueue<Cell> pq = new PriorityQueue<>(Comparator.comparingInt(c -> costMap.getOrDefault(c, Integer.MAX_VALUE)));
+
+        costMap.put(start, 0);
+        pq.offer(start);
+        parentMap.put(start, null);
+
+        while (!pq.isEmpty()) {
+            Cell current = pq.poll();
+            visited.add(current);
+
+            if (current.equals(end)) {
+                List<Cell> path = new ArrayList<>();
+                for (Cell c = end; c != null; c = parentMap.get(c)) path.add(0, c);
+                return path;
+            }
+
+            int i = current.index();
+            for (int dir = 0; dir < 4; dir++) {
+                if (!maze.canMove(i, dir)) continue;
+                Cell neighbor = maze.cell(maze.neighbor(i, dir));
+                if (visited.contains(neighbor)) continue;
+
+                int newCost = costMap.get(current) + neighbor.getWeight();
+                if (newCost < costMap.getOrDefault(neighbor, Integer.MAX_VALUE)) {
+                    costMap.put(neighbor, newCost);
+                    parentMap.put(neighbor, current);
+                    pq.remove(neighbor);
+                    pq.offer(neighbor);
+                }
+            }
+        }
+        return new ArrayList<>();
+    }
+}
@@ -0,0 +1,109 @@
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+// Matriks benchmark: generasi (strategi x ukuran, plus skala ParallelMazeGenerator per thread), solver (algoritma x ukuran x kepadatan loop),
+// isi medan, dan render MazePanel ke BufferedImage offscreen (dengan dan tanpa cache lapisan).
+// Semua maze dibuat dari seed tetap.
+// Jalankan (headless): java -Djava.awt.headless=true -jar benchmarks/target/benchmarks.jar -o hasil.json
+public class MazeBenchmarks {
+    private static final long SEED = 42;
+    private static final int[] GENERATE_SIZES = {100, 500, 1000};
+    private static final int PARALLEL_SIZE = 2000;
+    private static final int[] SOLVE_SIZES = {100, 300, 1000};
+    // Loop tambahan di atas 10% bawaan MazeGenerator
+    private static final int[] EXTRA_LOOPS = {0, 30};
+    private static final int[] TERRAIN_SIZES = {500, 2000};
+    private static final int[] PAINT_SIZES = {30, 100};
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner runner = new BenchmarkRunner();
+
+        for (GenerationStrategy strategy : MazeGenerator.STRATEGIES) {
+            for (int size : GENERATE_SIZES) {
+                runner.add("MazeBenchmarks.generate", BenchmarkRunner.params("strategy", strategy.getName(), "size", "" + size),
+                        () -> {
+                            MazeGenerator generator = new MazeGenerator(size, size, strategy, SEED);
+                            return generator::generateMaze;
+                        });
+            }
+        }
+
+        // 1, 2, 4, ... thread sampai jumlah core; bandingkan skor antar-thread untuk speedup
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+            int poolSize = threads;
+            runner.add("MazeBenchmarks.generateParallel",
+                    BenchmarkRunner.params("threads", "" + poolSize, "size", "" + PARALLEL_SIZE), () -> {
+                        ParallelMazeGenerator generator = new ParallelMazeGenerator(PARALLEL_SIZE, PARALLEL_SIZE, SEED);
+                        generator.setPool(new ForkJoinPool(poolSize));
+                        return generator::generateMaze;
+                    });
+        }
+
+        for (String algo : MazeSolver.ALGORITHMS) {
+            for (int size : SOLVE_SIZES) {
+                for (int loops : EXTRA_LOOPS) {
+                    runner.add("MazeBenchmarks.solve", BenchmarkRunner.params("algo", algo, "size", "" + size, "extraLoops", "" + loops),
+                            () -> {
+                                Maze maze = maze(size, loops);
+                                MazeSolver solver = new MazeSolver(maze);
+                                Cell start = maze.cell(0, 0), end = maze.cell(size - 1, size - 1);
+                                // Struktur turunan (HPA*, landmark) dibangun di setup, bukan diukur
+                                solver.solve(algo, start, end);
+                                return () -> solver.solve(algo, start, end);
+                            });
+                }
+            }
+        }
+
+        TerrainGenerator[] terrains = {new NoiseTerrain(), new WhiteNoiseTerrain()};
+        for (TerrainGenerator terrain : terrains) {
+            for (int size : TERRAIN_SIZES) {
+                runner.add("MazeBenchmarks.terrain", BenchmarkRunner.params("terrain", terrain.getName(), "size", "" + size),
+                        () -> {
+                            Maze maze = new Maze(size, size);
+                            SplittableRandom seeds = new SplittableRandom(SEED);
+                            return () -> {
+                                maze.applyTerrain(terrain, seeds.nextLong());
+                                return maze;
+                            };
+                        });
+            }
+        }
+
+        // paint: lapisan statis sudah di-cache, yang diukur hanya blit + overlay (repaint biasa).
+        // paintUncached: lapisan dibuang tiap iterasi, jadi dinding dan medan digambar ulang penuh
+        for (int size : PAINT_SIZES) {
+            for (boolean cached : new boolean[]{true, false}) {
+                String name = cached ? "MazeBenchmarks.paint" : "MazeBenchmarks.paintUncached";
+                runner.add(name, BenchmarkRunner.params("size", "" + size), () -> {
+                    MazePanel panel = new MazePanel();
+                    panel.setSize(800, 800);
+                    panel.setMaze(maze(size, 0));
+                    BufferedImage image = new BufferedImage(800, 800, BufferedImage.TYPE_INT_ARGB);
+                    return () -> {
+                        if (!cached) panel.invalidateLayer();
+                        Graphics2D g = image.createGraphics();
+                        panel.paint(g);
+                        g.dispose();
+                        return image;
+                    };
+                });
+            }
+        }
+
+        runner.run(args);
+    }
+
+    private static Maze maze(int size, int extraLoops) {
+        Maze maze = new MazeGenerator(size, size, MazeGenerator.STRATEGIES[0], SEED).generateMaze();
+        SplittableRandom random = new SplittableRandom(SEED);
+        int extra = size * size * extraLoops / 100;
+        for (int i = 0; i < extra; i++) {
+            maze.removeWall(maze.index(random.nextInt(size - 1), random.nextInt(size - 1)), random.nextBoolean() ? Maze.RIGHT : Maze.BOTTOM);
+        }
+        maze.applyTerrain(new NoiseTerrain(), SEED);
+        return maze;
+    }
+}